@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+# Compare platform-thread and virtual-thread request handling on the same build.
+# Needs a JDK 21+ on PATH and the configured SQL Server database.
+#
+#   ./benchmark-virtual-threads.sh [clients] [seconds]
+#
+# POOL_SIZE (default 40) sets the Hikari pool of both runs; STARTUP_TIMEOUT (default 180s) bounds the
+# wait for each start.
+set -euo pipefail
+
+CLIENTS="${1:-200}"
+SECONDS_PER_ENDPOINT="${2:-30}"
+PORT="${PORT:-8080}"
+STARTUP_TIMEOUT="${STARTUP_TIMEOUT:-180}"
+POOL_SIZE="${POOL_SIZE:-40}"
+BASE_URL="http://localhost:${PORT}"
+BENCHMARK_SOURCE="src/test/java/org/example/grandaura/benchmark/EndpointLoadBenchmark.java"
+
+java_major=$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}')
+if [ "${java_major%%.*}" -lt 21 ]; then
+  echo "JDK 21+ required for virtual threads (found ${java_major})" >&2
+  exit 1
+fi
+
+# Both modes get the same connection pool, so only the request threading differs between the runs
+POOL_ARGS=(
+  --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE"
+  --spring.datasource.hikari.minimum-idle=10
+  --spring.datasource.hikari.connection-timeout=5000
+)
+
+./mvnw -q -Pvirtual-threads -DskipTests package
+JAR=$(ls target/*.jar | grep -v original | head -n 1)
+
+run_mode() {
+  local label="$1"; shift
+  java -jar "$JAR" --server.port="$PORT" --spring.jpa.show-sql=false "$@" > "target/benchmark-${label}.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+  local waited=0
+  until curl -s -o /dev/null "${BASE_URL}/login"; do
+    if ! kill -0 "$pid" 2>/dev/null || [ "$waited" -ge "$STARTUP_TIMEOUT" ]; then
+      echo "${label}: application did not start within ${STARTUP_TIMEOUT}s, see target/benchmark-${label}.log" >&2
+      exit 1
+    fi
+    sleep 1
+    waited=$((waited + 1))
+  done
+  java "$BENCHMARK_SOURCE" "$BASE_URL" "$CLIENTS" "$SECONDS_PER_ENDPOINT" "$label"
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform-threads "${POOL_ARGS[@]}"
+run_mode virtual-threads --spring.profiles.active=virtual-threads "${POOL_ARGS[@]}"
@@ -0,0 +1,90 @@
+package org.example.grandaura.benchmark;
+
+import org.example.grandaura.GrandAuraApplication;
+import org.example.grandaura.service.BookingCounterService;
+import org.example.grandaura.service.VenueAvailabilityService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Application context over an embedded H2 database holding a synthetic booking table
+ * One database file per dataset size is kept under target/jmh and reused by later runs, so only
+ * the first run of a size pays for seeding. Counters and the availability calendar are rebuilt
+ * after seeding because the rows are inserted with SQL and never pass the entity listeners.
+ */
+@State(Scope.Benchmark)
+public class BookingDataset {
+
+    private static final Path DATA_DIR = Paths.get("target", "jmh");
+
+    @Param({"1000", "100000", "1000000"})
+    public int bookings;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        Path database = DATA_DIR.resolve("bookings-" + bookings).toAbsolutePath();
+        // Command-line arguments, so they take precedence over application.properties
+        context = new SpringApplicationBuilder(GrandAuraApplication.class)
+                .run("--spring.datasource.url=jdbc:h2:file:" + database + ";CACHE_SIZE=65536",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--server.port=0");
+
+        JdbcTemplate jdbc = new JdbcTemplate(context.getBean(DataSource.class));
+        Long seeded = jdbc.queryForObject("SELECT COUNT(*) FROM booking WHERE reservation_key LIKE 'seed:%'", Long.class);
+        if (seeded == null || seeded != bookings) {
+            seed(jdbc);
+        }
+        context.getBean(BookingCounterService.class).rebuild();
+        context.getBean(VenueAvailabilityService.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    // Three venues, dates spread 2024-2031, one booking in ten cancelled and one in four with special requests
+    private void seed(JdbcTemplate jdbc) {
+        System.out.println("🌱 Seeding " + bookings + " synthetic bookings...");
+        jdbc.update("DELETE FROM booking WHERE reservation_key LIKE 'seed:%'");
+        // Ids come from the entity's sequence so later JPA inserts never collide with the seeded rows
+        jdbc.update("INSERT INTO booking (id, version, reservation_key, customer_name, bride_name, groom_name, " +
+                "customer_email, guest_count, special_requests, venue, wedding_date, catering_package, " +
+                "dietary_requirements, estimated_guest_count, booking_status) " +
+                "SELECT NEXT VALUE FOR booking_seq, 0, CONCAT('seed:', X), CONCAT('Guest ', X), CONCAT('Bride ', X), CONCAT('Groom ', X), " +
+                "CONCAT('guest', X, '@example.com'), 50 + MOD(X * 7, 900), " +
+                "CASE WHEN MOD(X, 4) = 0 THEN 'Floral arch, live band' END, " +
+                "CASE MOD(X, 3) WHEN 0 THEN 'Grand Ballroom - 250 to 280 pax' " +
+                "WHEN 1 THEN 'Jubilee Ballroom - 150 to 200 pax' ELSE 'Chequerboard - Up to 1000 pax' END, " +
+                "DATEADD('DAY', MOD(X * 37, 2920), DATE '2024-01-01'), " +
+                "CASE MOD(X, 3) WHEN 0 THEN 'Premium' WHEN 1 THEN 'Standard' ELSE 'Deluxe' END, " +
+                "CASE WHEN MOD(X, 5) = 0 THEN 'Vegetarian' END, 50 + MOD(X * 7, 900), " +
+                "CASE WHEN MOD(X, 10) = 0 THEN 'Cancelled' WHEN MOD(X, 10) < 4 THEN 'Completed' " +
+                "WHEN MOD(X, 10) < 6 THEN 'Checked In' ELSE 'Pending' END " +
+                "FROM SYSTEM_RANGE(1, " + bookings + ")");
+        System.out.println("✅ Seeded " + bookings + " bookings");
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.grandaura.benchmark;
+
+import org.example.grandaura.dto.BookingExportFilter;
+import org.example.grandaura.dto.MonthlyReport;
+import org.example.grandaura.service.CateringManagerService;
+import org.example.grandaura.service.FrontDeskOfficerService;
+import org.example.grandaura.service.HotelOwnerService;
+import org.example.grandaura.service.MonthlyReportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service-layer hot paths measured against the synthetic datasets of {@link BookingDataset}
+ * Run with: mvn -Pjmh test-compile exec:exec
+ * or a subset: mvn -Pjmh test-compile exec:exec -Djmh.args="ServiceBenchmarks.csvExport -p bookings=1000"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx3g"})
+public class ServiceBenchmarks {
+
+    /** A month inside the seeded date range */
+    private static final YearMonth REPORT_MONTH = YearMonth.of(2026, 6);
+
+    private FrontDeskOfficerService frontDeskOfficerService;
+    private HotelOwnerService hotelOwnerService;
+    private CateringManagerService cateringManagerService;
+    private MonthlyReportService monthlyReportService;
+
+    @Setup
+    public void setUp(BookingDataset dataset) {
+        frontDeskOfficerService = dataset.bean(FrontDeskOfficerService.class);
+        hotelOwnerService = dataset.bean(HotelOwnerService.class);
+        cateringManagerService = dataset.bean(CateringManagerService.class);
+        monthlyReportService = dataset.bean(MonthlyReportService.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> guestAnalytics() {
+        return frontDeskOfficerService.getGuestAnalytics();
+    }
+
+    @Benchmark
+    public Map<String, Object> bookingStatistics() {
+        return hotelOwnerService.getBookingStatistics();
+    }
+
+    @Benchmark
+    public Map<String, Object> cateringStatistics() {
+        return cateringManagerService.getCateringStatistics();
+    }
+
+    @Benchmark
+    public long csvExport() throws IOException {
+        return hotelOwnerService.exportBookingsCsv(new BookingExportFilter(), Writer.nullWriter());
+    }
+
+    @Benchmark
+    public long excelExport() throws IOException {
+        return hotelOwnerService.exportBookingsXlsx(new BookingExportFilter(), OutputStream.nullOutputStream());
+    }
+
+    // Invalidating first forces a full render instead of returning the cached document
+    @Benchmark
+    public MonthlyReport monthlyReportPdf() {
+        monthlyReportService.invalidate(REPORT_MONTH);
+        return monthlyReportService.getReport(REPORT_MONTH);
+    }
+}
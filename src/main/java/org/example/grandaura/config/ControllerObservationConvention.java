@@ -0,0 +1,33 @@
+package org.example.grandaura.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Adds a "controller" tag to the http.server.requests metrics
+ * so request latency can be broken down per controller as well as per URI.
+ */
+@Component
+public class ControllerObservationConvention extends DefaultServerRequestObservationConvention {
+
+    public static final String CONTROLLER_TAG = "controller";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(controller(context));
+    }
+
+    // Static resources and unmatched requests have no handler method
+    private KeyValue controller(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return KeyValue.of(CONTROLLER_TAG, handlerMethod.getBeanType().getSimpleName());
+        }
+        return KeyValue.of(CONTROLLER_TAG, "none");
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.grandaura.config;
 
+import org.example.grandaura.service.PasswordHashingBusyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.stereotype.Component;
@@ -21,6 +23,13 @@ public class CustomAuthenticationFailureHandler implements AuthenticationFailure
                                      HttpServletResponse response, 
                                      AuthenticationException exception) throws IOException, ServletException {
         
+        // Password hashing pool is saturated: tell the client when to come back instead of failing the login
+        if (exception.getCause() instanceof PasswordHashingBusyException busy) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(busy.getRetryAfterSeconds()));
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, busy.getReason());
+            return;
+        }
+        
         // Get the referer URL to determine which login page was used
         String referer = request.getHeader("Referer");
         
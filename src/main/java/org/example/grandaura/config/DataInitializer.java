@@ -17,6 +17,9 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Data initializer to create test Hotel Owner account
  * This runs when the application starts and creates a default hotel owner
@@ -184,6 +187,8 @@ public class DataInitializer implements CommandLineRunner {
     }
 
     private void createSampleMenuItems() {
+        List<Menu> menus = new ArrayList<>();
+
         // Appetizers
         Menu appetizer1 = new Menu();
         appetizer1.setName("Tandoori Chicken Tikka");
@@ -195,7 +200,7 @@ public class DataInitializer implements CommandLineRunner {
         appetizer1.setPreparationTime(25);
         appetizer1.setAllergens("Contains dairy");
         appetizer1.setIsAvailable(true);
-        menuRepository.save(appetizer1);
+        menus.add(appetizer1);
 
         Menu appetizer2 = new Menu();
         appetizer2.setName("Bruschetta Trio");
@@ -207,7 +212,7 @@ public class DataInitializer implements CommandLineRunner {
         appetizer2.setPreparationTime(15);
         appetizer2.setAllergens("Contains gluten");
         appetizer2.setIsAvailable(true);
-        menuRepository.save(appetizer2);
+        menus.add(appetizer2);
 
         // Main Courses
         Menu main1 = new Menu();
@@ -220,7 +225,7 @@ public class DataInitializer implements CommandLineRunner {
         main1.setPreparationTime(30);
         main1.setAllergens("Contains fish");
         main1.setIsAvailable(true);
-        menuRepository.save(main1);
+        menus.add(main1);
 
         Menu main2 = new Menu();
         main2.setName("Chicken Biryani");
@@ -232,7 +237,7 @@ public class DataInitializer implements CommandLineRunner {
         main2.setPreparationTime(45);
         main2.setAllergens("Contains dairy");
         main2.setIsAvailable(true);
-        menuRepository.save(main2);
+        menus.add(main2);
 
         Menu main3 = new Menu();
         main3.setName("Vegetarian Pasta Primavera");
@@ -244,7 +249,7 @@ public class DataInitializer implements CommandLineRunner {
         main3.setPreparationTime(20);
         main3.setAllergens("Contains gluten, dairy");
         main3.setIsAvailable(true);
-        menuRepository.save(main3);
+        menus.add(main3);
 
         // Desserts
         Menu dessert1 = new Menu();
@@ -257,7 +262,7 @@ public class DataInitializer implements CommandLineRunner {
         dessert1.setPreparationTime(15);
         dessert1.setAllergens("Contains gluten, dairy, eggs");
         dessert1.setIsAvailable(true);
-        menuRepository.save(dessert1);
+        menus.add(dessert1);
 
         Menu dessert2 = new Menu();
         dessert2.setName("Gulab Jamun");
@@ -269,7 +274,7 @@ public class DataInitializer implements CommandLineRunner {
         dessert2.setPreparationTime(10);
         dessert2.setAllergens("Contains dairy");
         dessert2.setIsAvailable(true);
-        menuRepository.save(dessert2);
+        menus.add(dessert2);
 
         // Beverages
         Menu beverage1 = new Menu();
@@ -282,7 +287,7 @@ public class DataInitializer implements CommandLineRunner {
         beverage1.setPreparationTime(5);
         beverage1.setAllergens("Contains dairy");
         beverage1.setIsAvailable(true);
-        menuRepository.save(beverage1);
+        menus.add(beverage1);
 
         Menu beverage2 = new Menu();
         beverage2.setName("Sparkling Lemonade");
@@ -294,7 +299,10 @@ public class DataInitializer implements CommandLineRunner {
         beverage2.setPreparationTime(3);
         beverage2.setAllergens("None");
         beverage2.setIsAvailable(true);
-        menuRepository.save(beverage2);
+        menus.add(beverage2);
+
+        // One saveAll so the inserts share JDBC batches
+        menuRepository.saveAll(menus);
 
         System.out.println("✅ Sample menu items created successfully!");
         System.out.println("🍽️ Total menu items: " + menuRepository.count());
@@ -0,0 +1,31 @@
+package org.example.grandaura.config;
+
+import org.example.grandaura.service.PasswordHashingBusyException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * Username/password provider that reports a saturated password hashing pool as an authentication failure
+ * The bounded encoder throws {@link PasswordHashingBusyException} from the password check and from the
+ * unknown-user timing protection; left alone it escapes the login filter as a plain 500. Wrapped as an
+ * {@link InternalAuthenticationServiceException} it reaches {@link CustomAuthenticationFailureHandler},
+ * which answers 503 with Retry-After.
+ */
+public class HashingAwareAuthenticationProvider extends DaoAuthenticationProvider {
+
+    public HashingAwareAuthenticationProvider(UserDetailsService userDetailsService) {
+        super(userDetailsService);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        try {
+            return super.authenticate(authentication);
+        } catch (PasswordHashingBusyException busy) {
+            throw new InternalAuthenticationServiceException(busy.getReason(), busy);
+        }
+    }
+}
@@ -2,17 +2,18 @@ package org.example.grandaura.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
-import org.example.grandaura.service.AuthService;
-import org.example.grandaura.service.HotelOwnerAuthService;
-import org.example.grandaura.service.EventCoordinatorAuthService;
-import org.example.grandaura.service.SystemAdministratorAuthService;
-import org.example.grandaura.service.CateringManagerAuthService;
-import org.example.grandaura.service.FrontDeskOfficerAuthService;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.example.grandaura.service.AccountDirectoryService;
+import org.example.grandaura.service.BoundedPasswordEncoder;
+import org.example.grandaura.service.UserDetailsCache;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -27,66 +28,68 @@ public class SecurityConfig {
     @Autowired
     private CustomAuthenticationFailureHandler customAuthenticationFailureHandler;
 
+    /**
+     * BCrypt, run on a bounded pool so login and registration bursts cannot starve request threads
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder() {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder());
     }
 
     @Bean
-    public UserDetailsService userDetailsService(AuthService authService) {
-        return authService;
+    public UserDetailsService userDetailsService(AccountDirectoryService accountDirectoryService) {
+        return accountDirectoryService;
     }
 
+    /**
+     * One provider for every account type: the directory resolves the email to its role table in a
+     * single lookup and the password is checked once, instead of walking a chain of per-role providers.
+     * Resolved accounts are cached briefly; any account write clears the cache. A saturated hashing
+     * pool fails the login with 503 and Retry-After instead of a server error
+     */
     @Bean
-    public AuthenticationManager authenticationManager(
-            AuthService authService,
-            HotelOwnerAuthService hotelOwnerAuthService,
-            EventCoordinatorAuthService eventCoordinatorAuthService,
-            SystemAdministratorAuthService systemAdministratorAuthService,
-            CateringManagerAuthService cateringManagerAuthService,
-            FrontDeskOfficerAuthService frontDeskOfficerAuthService,
-            PasswordEncoder passwordEncoder) {
-        
-        // Regular users authentication provider
-        DaoAuthenticationProvider userProvider = new DaoAuthenticationProvider();
-        userProvider.setUserDetailsService(authService);
-        userProvider.setPasswordEncoder(passwordEncoder);
-        
-        // Hotel owner authentication provider
-        DaoAuthenticationProvider hotelOwnerProvider = new DaoAuthenticationProvider();
-        hotelOwnerProvider.setUserDetailsService(hotelOwnerAuthService);
-        hotelOwnerProvider.setPasswordEncoder(passwordEncoder);
-        
-        // Event coordinator authentication provider
-        DaoAuthenticationProvider eventCoordinatorProvider = new DaoAuthenticationProvider();
-        eventCoordinatorProvider.setUserDetailsService(eventCoordinatorAuthService);
-        eventCoordinatorProvider.setPasswordEncoder(passwordEncoder);
-        
-        // System administrator authentication provider
-        DaoAuthenticationProvider systemAdminProvider = new DaoAuthenticationProvider();
-        systemAdminProvider.setUserDetailsService(systemAdministratorAuthService);
-        systemAdminProvider.setPasswordEncoder(passwordEncoder);
-        
-        // Catering manager authentication provider
-        DaoAuthenticationProvider cateringManagerProvider = new DaoAuthenticationProvider();
-        cateringManagerProvider.setUserDetailsService(cateringManagerAuthService);
-        cateringManagerProvider.setPasswordEncoder(passwordEncoder);
-        
-        // Front desk officer authentication provider
-        DaoAuthenticationProvider frontDeskProvider = new DaoAuthenticationProvider();
-        frontDeskProvider.setUserDetailsService(frontDeskOfficerAuthService);
-        frontDeskProvider.setPasswordEncoder(passwordEncoder);
-        
-        return new ProviderManager(userProvider, hotelOwnerProvider, eventCoordinatorProvider, systemAdminProvider, cateringManagerProvider, frontDeskProvider);
+    public AuthenticationManager authenticationManager(AccountDirectoryService accountDirectoryService,
+                                                       UserDetailsCache userDetailsCache,
+                                                       PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new HashingAwareAuthenticationProvider(accountDirectoryService);
+        provider.setUserCache(userDetailsCache);
+        provider.setPasswordEncoder(passwordEncoder);
+        return new ProviderManager(provider);
     }
 
+    /**
+     * Actuator endpoints for monitoring: health is public, metrics and the Prometheus scrape endpoint
+     * need a system administrator over HTTP basic so scrapers can authenticate without a login form
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher("/actuator/**")
+            .csrf(csrf -> csrf.disable())
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .anyRequest().hasRole("SYSTEM_ADMIN")
+            )
+            // Plain status codes, an error dispatch would land on the form-login chain and redirect
+            .httpBasic(basic -> basic.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                .accessDeniedHandler((request, response, denied) -> response.setStatus(HttpStatus.FORBIDDEN.value()))
+            )
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/", "/login", "/register", "/hotel-owner/login", "/event-coordinator/login", "/system-admin/login", "/catering-manager/login", "/front-desk/login", "/css/**", "/js/**", "/img/**", "/video/**").permitAll()
                 .requestMatchers("/gallery", "/contact", "/privacy", "/terms", "/cookies", "/refund").permitAll() // Public informational pages
+                .requestMatchers("/api/bookings/import").hasAnyRole("SYSTEM_ADMIN", "EVENT_COORDINATOR")
                 .requestMatchers("/bookings/**").hasAnyRole("USER", "CATERING_MANAGER", "HOTEL_OWNER", "EVENT_COORDINATOR", "SYSTEM_ADMIN", "FRONT_DESK")
                 .requestMatchers("/hotel-owner/**").hasRole("HOTEL_OWNER")
                 .requestMatchers("/event-coordinator/**").hasRole("EVENT_COORDINATOR")
@@ -0,0 +1,35 @@
+package org.example.grandaura.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Records how long each HTTP session lived, from creation to logout or expiry
+ * Published as grandaura.sessions.lifetime; active and created counts come from Tomcat's own session metrics.
+ */
+@Component
+public class SessionMetricsListener implements HttpSessionListener {
+
+    public static final String METRIC_NAME = "grandaura.sessions.lifetime";
+
+    private final Timer sessionLifetime;
+
+    @Autowired
+    public SessionMetricsListener(MeterRegistry meterRegistry) {
+        this.sessionLifetime = Timer.builder(METRIC_NAME)
+                .description("Lifetime of ended HTTP sessions")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        long lifetimeMillis = System.currentTimeMillis() - event.getSession().getCreationTime();
+        sessionLifetime.record(Duration.ofMillis(Math.max(0, lifetimeMillis)));
+    }
+}
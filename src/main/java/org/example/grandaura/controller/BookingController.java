@@ -1,19 +1,34 @@
 package org.example.grandaura.controller;
 
+import org.example.grandaura.dto.BookingImportReport;
+import org.example.grandaura.dto.BookingPage;
+import org.example.grandaura.dto.BookingPageRequest;
+import org.example.grandaura.dto.VenueAvailability;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.entity.Menu;
-import org.example.grandaura.repository.MenuRepository;
+import org.example.grandaura.service.BookingImportService;
 import org.example.grandaura.service.BookingService;
+import org.example.grandaura.service.MenuCatalogService;
+import org.example.grandaura.service.VenueAvailabilityService;
+import org.example.grandaura.service.VenueUnavailableException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
-import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.validation.BindingResult;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,17 +41,25 @@ import java.util.Optional;
 public class BookingController {
 
     private final BookingService bookingService;
-    private final MenuRepository menuRepository;
+    private final MenuCatalogService menuCatalogService;
+    private final VenueAvailabilityService venueAvailabilityService;
+    private final BookingImportService bookingImportService;
 
     /**
      * Constructor-based dependency injection for BookingService.
      * @param bookingService The service layer for booking operations.
-     * @param menuRepository The repository for menu operations.
+     * @param menuCatalogService The in-memory menu catalog used by the booking forms.
+     * @param venueAvailabilityService The in-memory venue availability calendars.
+     * @param bookingImportService The streaming bulk importer for CSV and NDJSON uploads.
      */
     @Autowired
-    public BookingController(BookingService bookingService, MenuRepository menuRepository) {
+    public BookingController(BookingService bookingService, MenuCatalogService menuCatalogService,
+                             VenueAvailabilityService venueAvailabilityService,
+                             BookingImportService bookingImportService) {
         this.bookingService = bookingService;
-        this.menuRepository = menuRepository;
+        this.menuCatalogService = menuCatalogService;
+        this.venueAvailabilityService = venueAvailabilityService;
+        this.bookingImportService = bookingImportService;
     }
 
     /**
@@ -54,8 +77,8 @@ public class BookingController {
      * @return Redirect to the create-booking page.
      */
     @PostMapping
-    public String createBooking(@ModelAttribute("booking") @Valid Booking booking, 
-                              @RequestParam(value = "selectedMenuItems", required = false) String[] selectedMenuItems,
+    public String createBooking(@ModelAttribute("booking") @Validated({Default.class, Booking.Submission.class}) Booking booking, 
+                              @RequestParam(value = "menuIds", required = false) List<Long> menuIds,
                               BindingResult bindingResult, Model model, RedirectAttributes redirectAttributes) {
         if (bindingResult.hasErrors()) {
             model.addAttribute("booking", booking);
@@ -63,12 +86,18 @@ public class BookingController {
         }
         
         // Process selected menu items
-        if (selectedMenuItems != null && selectedMenuItems.length > 0) {
-            String menuItemsString = String.join(", ", selectedMenuItems);
-            booking.setSelectedMenuItems(menuItemsString);
-        }
+        booking.selectMenus(menuCatalogService.getCatalog().getMenusById(menuIds != null ? menuIds : List.of()));
         
-        Booking savedBooking = bookingService.saveBooking(booking);
+        Booking savedBooking;
+        try {
+            savedBooking = bookingService.saveBooking(booking);
+        } catch (VenueUnavailableException e) {
+            bindingResult.rejectValue("weddingDate", "booking.slotTaken",
+                    e.getVenue() + " is already booked on this date. Please choose another date or venue.");
+            model.addAttribute("booking", booking);
+            model.addAttribute("availableMenus", menuCatalogService.getCatalog().getAvailableMenus());
+            return "createBooking";
+        }
         redirectAttributes.addFlashAttribute("bookingId", savedBooking.getId());
         return "redirect:/bookings/success";
     }
@@ -86,7 +115,7 @@ public class BookingController {
         }
         
         // Get available menu items
-        List<Menu> availableMenus = menuRepository.findByIsAvailableTrue();
+        List<Menu> availableMenus = menuCatalogService.getCatalog().getAvailableMenus();
         model.addAttribute("booking", booking.get());
         model.addAttribute("availableMenus", availableMenus);
         return "editBooking";
@@ -95,26 +124,36 @@ public class BookingController {
     // UI: update action
     @PostMapping("/{id}/edit")
     public String updateBookingForm(@PathVariable Long id, 
-                                  @ModelAttribute("booking") @Valid Booking booking, 
-                                  @RequestParam(value = "selectedMenuItems", required = false) String[] selectedMenuItems,
+                                  @ModelAttribute("booking") @Validated({Default.class, Booking.Submission.class}) Booking booking, 
+                                  @RequestParam(value = "menuIds", required = false) List<Long> menuIds,
                                   BindingResult bindingResult, RedirectAttributes redirectAttributes, Model model) {
         if (bindingResult.hasErrors()) {
             model.addAttribute("booking", booking);
             return "editBooking";
         }
-        if (!bookingService.getBookingById(id).isPresent()) {
+        Optional<Booking> stored = bookingService.getBookingById(id);
+        if (stored.isEmpty()) {
             redirectAttributes.addFlashAttribute("message", "Booking not found");
             return "redirect:/bookings/my";
         }
         
-        // Process selected menu items
-        if (selectedMenuItems != null && selectedMenuItems.length > 0) {
-            String menuItemsString = String.join(", ", selectedMenuItems);
-            booking.setSelectedMenuItems(menuItemsString);
-        }
+        // Process selected menu items; the form only carries menu ids, so start from the stored rows
+        // and items that stay selected keep their servings per guest
+        booking.getMenuItems().addAll(stored.get().getMenuItems());
+        booking.selectMenus(menuCatalogService.getCatalog().getMenusById(menuIds != null ? menuIds : List.of()));
         
         booking.setId(id);
-        bookingService.saveBooking(booking);
+        try {
+            bookingService.saveBooking(booking);
+        } catch (VenueUnavailableException e) {
+            bindingResult.rejectValue("weddingDate", "booking.slotTaken",
+                    e.getVenue() + " is already booked on this date. Please choose another date or venue.");
+            model.addAttribute("availableMenus", menuCatalogService.getCatalog().getAvailableMenus());
+            return "editBooking";
+        } catch (ObjectOptimisticLockingFailureException e) {
+            redirectAttributes.addFlashAttribute("message", "This booking was changed by someone else. Please review it and try again.");
+            return "redirect:/api/bookings/" + id + "/edit";
+        }
         redirectAttributes.addFlashAttribute("message", "Booking updated");
         return "redirect:/bookings/my";
     }
@@ -140,13 +179,73 @@ public class BookingController {
     }
 
     /**
-     * Retrieves all bookings via REST API.
-     * @return ResponseEntity with a list of all bookings.
+     * Retrieves bookings via REST API, one keyset page at a time ordered by wedding date then id.
+     * @param cursor The nextCursor of the previous page, or absent for the first page.
+     * @param size The page size, clamped to BookingPageRequest.MAX_PAGE_SIZE.
+     * @param includeTotal Whether to run the extra COUNT query for totalCount.
+     * @return ResponseEntity with the page, or 400 if the cursor is malformed.
      */
     @GetMapping
-    public ResponseEntity<List<Booking>> getAllBookings() {
-        List<Booking> bookings = bookingService.getAllBookings();
-        return ResponseEntity.ok(bookings);
+    public ResponseEntity<BookingPage> getAllBookings(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer size,
+                                                      @RequestParam(defaultValue = "false") boolean includeTotal) {
+        BookingPageRequest pageRequest = new BookingPageRequest(cursor, size);
+        pageRequest.setIncludeTotal(includeTotal);
+        try {
+            return ResponseEntity.ok(bookingService.getBookingPage(pageRequest));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Venue availability via REST API, answered from in-memory calendars without querying bookings.
+     * @param venue The venue to check, or absent for every venue that fits the guest count.
+     * @param guests The expected guest count, used to filter venues by capacity.
+     * @param date A requested wedding date; the response says whether it is free.
+     * @param from The start of the free-date search (defaults to the requested date or today).
+     * @param to The end of the free-date search (defaults to twelve months after the start).
+     * @param limit The maximum number of free dates per venue.
+     * @return ResponseEntity with one availability entry per venue.
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<List<VenueAvailability>> getAvailability(
+            @RequestParam(required = false) String venue,
+            @RequestParam(required = false) Integer guests,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(venueAvailabilityService.search(venue, guests, date, from, to, limit));
+    }
+
+    /**
+     * Imports bookings in bulk via REST API from a CSV (text/csv) or NDJSON (application/x-ndjson) request body.
+     * The body is parsed as a stream and valid rows are written in batched transactions, so large files
+     * import in one request; rejected rows are listed with their reasons in the report.
+     * @param contentType The request content type, which selects the format.
+     * @param body The raw request body.
+     * @param chunkSize The number of rows written per transaction.
+     * @return ResponseEntity with the import report; 400 with the reason if the format or CSV header is not
+     *         understood, or with the partial report if the CSV breaks off partway.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson", "application/jsonl"})
+    public ResponseEntity<BookingImportReport> importBookings(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                              InputStream body,
+                                                              @RequestParam(defaultValue = "" + BookingImportService.DEFAULT_CHUNK_SIZE) int chunkSize)
+            throws IOException {
+        BookingImportService.Format format;
+        try {
+            format = BookingImportService.Format.fromContentType(contentType);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(BookingImportReport.refused(null, e.getMessage()));
+        }
+        try {
+            BookingImportReport report = bookingImportService.importBookings(body, format, chunkSize);
+            return report.isComplete() ? ResponseEntity.ok(report) : ResponseEntity.badRequest().body(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(BookingImportReport.refused(format.name(), e.getMessage()));
+        }
     }
 
     /**
@@ -164,15 +263,22 @@ public class BookingController {
      * Updates a booking by ID via REST API.
      * @param id The ID of the booking to update.
      * @param booking The updated booking data.
-     * @return ResponseEntity with the updated booking or 404 if not found.
+     * @return ResponseEntity with the updated booking, 404 if not found, or 409 if the venue/date
+     *         is taken or the booking's version is stale.
      */
     @PutMapping("/{id}")
     public ResponseEntity<Booking> updateBooking(@PathVariable Long id, @RequestBody Booking booking) {
-        if (!bookingService.getBookingById(id).isPresent()) {
+        Optional<Booking> stored = bookingService.getBookingById(id);
+        if (stored.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+        // Menu items are read-only in JSON; keep the stored selection
+        booking.getMenuItems().addAll(stored.get().getMenuItems());
         booking.setId(id);
-        Booking updatedBooking = bookingService.saveBooking(booking);
-        return ResponseEntity.ok(updatedBooking);
+        try {
+            return ResponseEntity.ok(bookingService.saveBooking(booking));
+        } catch (VenueUnavailableException | ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
 }
\ No newline at end of file
@@ -3,8 +3,8 @@ package org.example.grandaura.controller;
 import jakarta.servlet.http.HttpSession;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.entity.Menu;
-import org.example.grandaura.repository.MenuRepository;
 import org.example.grandaura.service.BookingService;
+import org.example.grandaura.service.MenuCatalogService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -20,12 +20,12 @@ import java.util.List;
 public class BookingUiController {
 
     private final BookingService bookingService;
-    private final MenuRepository menuRepository;
+    private final MenuCatalogService menuCatalogService;
 
     @Autowired
-    public BookingUiController(BookingService bookingService, MenuRepository menuRepository) {
+    public BookingUiController(BookingService bookingService, MenuCatalogService menuCatalogService) {
         this.bookingService = bookingService;
-        this.menuRepository = menuRepository;
+        this.menuCatalogService = menuCatalogService;
     }
 
     @GetMapping("/create")
@@ -36,7 +36,7 @@ public class BookingUiController {
         }
         
         // Get available menu items grouped by category
-        List<Menu> availableMenus = menuRepository.findByIsAvailableTrue();
+        List<Menu> availableMenus = menuCatalogService.getCatalog().getAvailableMenus();
         
         model.addAttribute("booking", booking);
         model.addAttribute("availableMenus", availableMenus);
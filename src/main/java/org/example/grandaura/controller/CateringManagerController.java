@@ -1,5 +1,10 @@
 package org.example.grandaura.controller;
 
+import org.example.grandaura.dto.BookingDetailView;
+import org.example.grandaura.dto.BookingPage;
+import org.example.grandaura.dto.BookingPageRequest;
+import org.example.grandaura.dto.CateringForecast;
+import org.example.grandaura.dto.MenuSuggestion;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.entity.CateringManager;
 import org.example.grandaura.entity.Menu;
@@ -7,6 +12,7 @@ import org.example.grandaura.entity.MenuPlan;
 import org.example.grandaura.service.CateringManagerService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -68,6 +74,16 @@ public class CateringManagerController {
         return "catering-manager/menu-planning";
     }
 
+    /**
+     * Catering demand forecast per day and week as JSON; defaults to the next 30 days, capped at a year
+     */
+    @GetMapping("/forecast")
+    public ResponseEntity<CateringForecast> forecast(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(cateringManagerService.getCateringForecast(from, to));
+    }
+
     /**
      * Vendor Management
      */
@@ -98,25 +114,35 @@ public class CateringManagerController {
      * Booking Management
      */
     @GetMapping("/bookings")
-    public String bookingManagement(Model model) {
+    public String bookingManagement(@RequestParam(required = false) String cursor,
+                                    @RequestParam(required = false) Integer size,
+                                    Model model) {
         try {
             // First, let's try to get a simple count to test the database connection
             long bookingCount = cateringManagerService.getBookingCount();
             System.out.println("Total bookings in database: " + bookingCount);
             
-            List<Booking> allBookings = cateringManagerService.getAllBookings();
-            List<Booking> upcomingBookings = cateringManagerService.getUpcomingBookings();
+            BookingPageRequest pageRequest = new BookingPageRequest(cursor, size);
+            // A mangled or stale link shows the first page instead of an error
+            pageRequest.discardMalformedCursor();
+            BookingPage page = cateringManagerService.getBookingPage(pageRequest);
+            
+            // Upcoming events: the next page-worth from today onwards
+            BookingPageRequest upcomingRequest = new BookingPageRequest();
+            upcomingRequest.setStartDate(LocalDate.now());
+            List<Booking> upcomingBookings = cateringManagerService.getBookingPage(upcomingRequest).getItems();
             
             // Calculate statistics
-            double avgGuestCount = allBookings.isEmpty() ? 0.0 : 
-                allBookings.stream().mapToInt(Booking::getGuestCount).average().orElse(0.0);
+            long totalGuests = cateringManagerService.getTotalGuests();
+            double avgGuestCount = bookingCount == 0 ? 0.0 : (double) totalGuests / bookingCount;
             
-            double totalRevenue = allBookings.stream()
-                .mapToDouble(booking -> booking.getGuestCount() * 150.0)
-                .sum();
+            double totalRevenue = totalGuests * 150.0;
             
-            model.addAttribute("allBookings", allBookings);
+            model.addAttribute("allBookings", page.getItems());
+            model.addAttribute("page", page);
+            model.addAttribute("totalBookingCount", bookingCount);
             model.addAttribute("upcomingBookings", upcomingBookings);
+            model.addAttribute("upcomingBookingCount", cateringManagerService.getUpcomingBookingCount());
             model.addAttribute("avgGuestCount", String.format("%.0f", avgGuestCount));
             model.addAttribute("totalRevenue", String.format("%.0f", totalRevenue));
             
@@ -135,14 +161,10 @@ public class CateringManagerController {
      */
     @GetMapping("/bookings/{id}")
     public String viewBooking(@PathVariable Long id, Model model) {
-        List<Booking> bookings = cateringManagerService.getAllBookings();
-        Optional<Booking> booking = bookings.stream()
-                .filter(b -> b.getId().equals(id))
-                .findFirst();
+        Optional<BookingDetailView> booking = cateringManagerService.getBookingDetail(id);
         
         if (booking.isPresent()) {
-            Booking bookingObj = booking.get();
-            model.addAttribute("booking", bookingObj);
+            model.addAttribute("booking", booking.get());
             
             return "catering-manager/bookingDetails";
         } else {
@@ -165,15 +187,10 @@ public class CateringManagerController {
     public String editCateringForm(@PathVariable Long id, Model model) {
         System.out.println("Edit catering form called for booking ID: " + id);
         
-        List<Booking> bookings = cateringManagerService.getAllBookings();
-        System.out.println("Total bookings found: " + bookings.size());
-        
-        Optional<Booking> booking = bookings.stream()
-                .filter(b -> b.getId().equals(id))
-                .findFirst();
+        Optional<BookingDetailView> booking = cateringManagerService.getBookingDetail(id);
         
         if (booking.isPresent()) {
-            Booking bookingObj = booking.get();
+            BookingDetailView bookingObj = booking.get();
             System.out.println("Booking found: " + bookingObj.getId());
             
             // Get available menu items
@@ -198,13 +215,10 @@ public class CateringManagerController {
                                 @RequestParam(required = false) String cateringPackage,
                                 @RequestParam(required = false) String dietaryRequirements,
                                 @RequestParam(required = false) String specialCateringRequests,
-                                @RequestParam(value = "selectedMenuItems", required = false) String[] selectedMenuItems,
+                                @RequestParam(value = "menuIds", required = false) List<Long> menuIds,
                                 Model model) {
         try {
-            List<Booking> bookings = cateringManagerService.getAllBookings();
-            Optional<Booking> bookingOpt = bookings.stream()
-                    .filter(b -> b.getId().equals(id))
-                    .findFirst();
+            Optional<Booking> bookingOpt = cateringManagerService.getBookingById(id);
             
             if (bookingOpt.isPresent()) {
                 Booking booking = bookingOpt.get();
@@ -221,12 +235,7 @@ public class CateringManagerController {
                 }
                 
                 // Process selected menu items
-                if (selectedMenuItems != null && selectedMenuItems.length > 0) {
-                    String menuItemsString = String.join(", ", selectedMenuItems);
-                    booking.setSelectedMenuItems(menuItemsString);
-                } else {
-                    booking.setSelectedMenuItems(null);
-                }
+                booking.selectMenus(cateringManagerService.getMenusById(menuIds != null ? menuIds : List.of()));
                 
                 // Save the updated booking
                 cateringManagerService.updateBooking(booking);
@@ -371,7 +380,7 @@ public class CateringManagerController {
         List<Menu> menus;
         
         if (search != null && !search.trim().isEmpty()) {
-            menus = cateringManagerService.searchMenusByName(search);
+            menus = cateringManagerService.searchMenus(search);
         } else if (category != null && !category.isEmpty()) {
             menus = cateringManagerService.getMenusByCategory(category);
         } else if (cuisine != null && !cuisine.isEmpty()) {
@@ -395,6 +404,14 @@ public class CateringManagerController {
         return "catering-manager/menus";
     }
 
+    /**
+     * Menu search suggestions as JSON, answered from the in-memory search index
+     */
+    @GetMapping("/menus/autocomplete")
+    public ResponseEntity<List<MenuSuggestion>> menuAutocomplete(@RequestParam(name = "q", required = false) String query) {
+        return ResponseEntity.ok(cateringManagerService.getMenuSuggestions(query));
+    }
+
     /**
      * Create Menu Item Page
      */
@@ -1,14 +1,24 @@
 package org.example.grandaura.controller;
 
+import org.example.grandaura.dto.BookingDetailView;
+import org.example.grandaura.dto.BookingStatsSnapshot;
+import org.example.grandaura.dto.MonthlyReport;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.entity.EventCoordinator;
 import org.example.grandaura.service.EventCoordinatorService;
+import org.example.grandaura.service.MonthlyReportService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -87,7 +97,7 @@ public class EventCoordinatorController {
      */
     @GetMapping("/bookings/{id}")
     public String viewBooking(@PathVariable Long id, Model model) {
-        Optional<Booking> booking = eventCoordinatorService.getBookingById(id);
+        Optional<BookingDetailView> booking = eventCoordinatorService.getBookingDetail(id);
         
         if (booking.isPresent()) {
             model.addAttribute("booking", booking.get());
@@ -294,186 +304,39 @@ public class EventCoordinatorController {
      */
     @GetMapping("/analytics")
     public String analytics(Model model) {
-        Map<String, Object> statistics = eventCoordinatorService.getEventCoordinationStatistics();
-        Map<String, Long> venueUtilization = eventCoordinatorService.getVenueUtilization();
-        Map<String, Long> monthlyStats = eventCoordinatorService.getMonthlyBookingStats();
+        BookingStatsSnapshot snapshot = eventCoordinatorService.getStatsSnapshot();
         
-        model.addAttribute("statistics", statistics);
-        model.addAttribute("venueUtilization", venueUtilization);
-        model.addAttribute("monthlyStats", monthlyStats);
+        model.addAttribute("statistics", snapshot.toMap());
+        model.addAttribute("venueUtilization", snapshot.getVenueUtilization());
+        model.addAttribute("monthlyStats", snapshot.getMonthlyStats());
         
         return "event-coordinator/analytics";
     }
 
     /**
-     * Generate Monthly Report as PDF
+     * Download the Monthly Report PDF
+     * Reports are generated in the background per calendar month and served with their content hash
+     * as ETag, so a repeat download with If-None-Match gets a 304 without touching the database
      */
     @GetMapping("/analytics/generate-monthly-report")
-    public void generateMonthlyReport(jakarta.servlet.http.HttpServletResponse response) {
+    public ResponseEntity<byte[]> generateMonthlyReport(@RequestParam(required = false) String month) {
+        YearMonth reportMonth;
         try {
-            // Get data for the report
-            Map<String, Object> statistics = eventCoordinatorService.getEventCoordinationStatistics();
-            Map<String, Long> venueUtilization = eventCoordinatorService.getVenueUtilization();
-            Map<String, Long> monthlyStats = eventCoordinatorService.getMonthlyBookingStats();
-            
-            // Set response headers for PDF download
-            response.setContentType("application/pdf");
-            String filename = "Grand_Aura_Monthly_Report_" + 
-                java.time.LocalDate.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyy_MM_dd")) + ".pdf";
-            response.setHeader("Content-Disposition", "attachment; filename=\"" + filename + "\"");
-            
-            // Create PDF using iText
-            com.itextpdf.kernel.pdf.PdfWriter writer = new com.itextpdf.kernel.pdf.PdfWriter(response.getOutputStream());
-            com.itextpdf.kernel.pdf.PdfDocument pdf = new com.itextpdf.kernel.pdf.PdfDocument(writer);
-            com.itextpdf.layout.Document document = new com.itextpdf.layout.Document(pdf, com.itextpdf.kernel.geom.PageSize.A4);
-            document.setMargins(40, 40, 40, 40);
-            
-            // Define colors
-            com.itextpdf.kernel.colors.Color goldColor = new com.itextpdf.kernel.colors.DeviceRgb(200, 169, 106);
-            com.itextpdf.kernel.colors.Color darkColor = new com.itextpdf.kernel.colors.DeviceRgb(45, 45, 45);
-            com.itextpdf.kernel.colors.Color lightGray = new com.itextpdf.kernel.colors.DeviceRgb(248, 249, 250);
-            
-            // Title
-            com.itextpdf.layout.element.Paragraph title = new com.itextpdf.layout.element.Paragraph("GRAND AURA")
-                .setFontSize(28)
-                .setBold()
-                .setFontColor(goldColor)
-                .setTextAlignment(com.itextpdf.layout.properties.TextAlignment.CENTER)
-                .setMarginBottom(5);
-            document.add(title);
-            
-            com.itextpdf.layout.element.Paragraph subtitle = new com.itextpdf.layout.element.Paragraph("Event Coordination - Monthly Report")
-                .setFontSize(16)
-                .setFontColor(darkColor)
-                .setTextAlignment(com.itextpdf.layout.properties.TextAlignment.CENTER)
-                .setMarginBottom(20);
-            document.add(subtitle);
-            
-            // Report Date
-            com.itextpdf.layout.element.Paragraph reportDate = new com.itextpdf.layout.element.Paragraph(
-                    "Report Generated: " + java.time.LocalDate.now().format(java.time.format.DateTimeFormatter.ofPattern("MMMM dd, yyyy")))
-                .setFontSize(10)
-                .setFontColor(com.itextpdf.kernel.colors.ColorConstants.GRAY)
-                .setTextAlignment(com.itextpdf.layout.properties.TextAlignment.CENTER)
-                .setMarginBottom(30);
-            document.add(reportDate);
-            
-            // Horizontal line
-            com.itextpdf.layout.element.LineSeparator line = new com.itextpdf.layout.element.LineSeparator(
-                new com.itextpdf.kernel.pdf.canvas.draw.SolidLine(1f));
-            line.setMarginBottom(20);
-            document.add(line);
-            
-            // Key Statistics Section
-            com.itextpdf.layout.element.Paragraph statsHeader = new com.itextpdf.layout.element.Paragraph("📊 KEY STATISTICS")
-                .setFontSize(14)
-                .setBold()
-                .setFontColor(goldColor)
-                .setMarginBottom(10);
-            document.add(statsHeader);
-            
-            // Statistics Table
-            com.itextpdf.layout.element.Table statsTable = new com.itextpdf.layout.element.Table(new float[]{2, 1})
-                .useAllAvailableWidth()
-                .setMarginBottom(20);
-            
-            statsTable.addHeaderCell(new com.itextpdf.layout.element.Cell()
-                .add(new com.itextpdf.layout.element.Paragraph("Metric").setBold())
-                .setBackgroundColor(lightGray)
-                .setPadding(10));
-            statsTable.addHeaderCell(new com.itextpdf.layout.element.Cell()
-                .add(new com.itextpdf.layout.element.Paragraph("Value").setBold())
-                .setBackgroundColor(lightGray)
-                .setPadding(10));
-            
-            statsTable.addCell(new com.itextpdf.layout.element.Cell().add(new com.itextpdf.layout.element.Paragraph("Total Events")).setPadding(8));
-            statsTable.addCell(new com.itextpdf.layout.element.Cell().add(new com.itextpdf.layout.element.Paragraph(statistics.get("totalBookings").toString())).setPadding(8));
-            
-            statsTable.addCell(new com.itextpdf.layout.element.Cell().add(new com.itextpdf.layout.element.Paragraph("Total Guests Served")).setPadding(8));
-            statsTable.addCell(new com.itextpdf.layout.element.Cell().add(new com.itextpdf.layout.element.Paragraph(statistics.get("totalGuests").toString())).setPadding(8));
-            
-            statsTable.addCell(new com.itextpdf.layout.element.Cell().add(new com.itextpdf.layout.element.Paragraph("Average Event Size")).setPadding(8));
-            statsTable.addCell(new com.itextpdf.layout.element.Cell().add(new com.itextpdf.layout.element.Paragraph(String.format("%.0f guests", statistics.get("averageGuestCount")))).setPadding(8));
-            
-            statsTable.addCell(new com.itextpdf.layout.element.Cell().add(new com.itextpdf.layout.element.Paragraph("Upcoming Events")).setPadding(8));
-            statsTable.addCell(new com.itextpdf.layout.element.Cell().add(new com.itextpdf.layout.element.Paragraph(statistics.get("upcomingBookings").toString())).setPadding(8));
-            
-            document.add(statsTable);
-            
-            // Venue Utilization Section
-            com.itextpdf.layout.element.Paragraph venueHeader = new com.itextpdf.layout.element.Paragraph("🏛️ VENUE UTILIZATION")
-                .setFontSize(14)
-                .setBold()
-                .setFontColor(goldColor)
-                .setMarginBottom(10);
-            document.add(venueHeader);
-            
-            com.itextpdf.layout.element.Table venueTable = new com.itextpdf.layout.element.Table(new float[]{2, 1})
-                .useAllAvailableWidth()
-                .setMarginBottom(20);
-            
-            venueTable.addHeaderCell(new com.itextpdf.layout.element.Cell()
-                .add(new com.itextpdf.layout.element.Paragraph("Venue").setBold())
-                .setBackgroundColor(lightGray)
-                .setPadding(10));
-            venueTable.addHeaderCell(new com.itextpdf.layout.element.Cell()
-                .add(new com.itextpdf.layout.element.Paragraph("Bookings").setBold())
-                .setBackgroundColor(lightGray)
-                .setPadding(10));
-            
-            for (Map.Entry<String, Long> entry : venueUtilization.entrySet()) {
-                venueTable.addCell(new com.itextpdf.layout.element.Cell().add(new com.itextpdf.layout.element.Paragraph(entry.getKey())).setPadding(8));
-                venueTable.addCell(new com.itextpdf.layout.element.Cell().add(new com.itextpdf.layout.element.Paragraph(entry.getValue().toString())).setPadding(8));
-            }
-            
-            document.add(venueTable);
-            
-            // Monthly Trends Section
-            com.itextpdf.layout.element.Paragraph monthlyHeader = new com.itextpdf.layout.element.Paragraph("📈 MONTHLY BOOKING TRENDS")
-                .setFontSize(14)
-                .setBold()
-                .setFontColor(goldColor)
-                .setMarginBottom(10);
-            document.add(monthlyHeader);
-            
-            com.itextpdf.layout.element.Table monthlyTable = new com.itextpdf.layout.element.Table(new float[]{2, 1})
-                .useAllAvailableWidth()
-                .setMarginBottom(20);
-            
-            monthlyTable.addHeaderCell(new com.itextpdf.layout.element.Cell()
-                .add(new com.itextpdf.layout.element.Paragraph("Month").setBold())
-                .setBackgroundColor(lightGray)
-                .setPadding(10));
-            monthlyTable.addHeaderCell(new com.itextpdf.layout.element.Cell()
-                .add(new com.itextpdf.layout.element.Paragraph("Bookings").setBold())
-                .setBackgroundColor(lightGray)
-                .setPadding(10));
-            
-            for (Map.Entry<String, Long> entry : monthlyStats.entrySet()) {
-                monthlyTable.addCell(new com.itextpdf.layout.element.Cell().add(new com.itextpdf.layout.element.Paragraph(entry.getKey())).setPadding(8));
-                monthlyTable.addCell(new com.itextpdf.layout.element.Cell().add(new com.itextpdf.layout.element.Paragraph(entry.getValue().toString())).setPadding(8));
-            }
-            
-            document.add(monthlyTable);
-            
-            // Footer
-            document.add(new com.itextpdf.layout.element.LineSeparator(new com.itextpdf.kernel.pdf.canvas.draw.SolidLine(1f)).setMarginTop(20));
-            
-            com.itextpdf.layout.element.Paragraph footer = new com.itextpdf.layout.element.Paragraph(
-                    "© 2025 Grand Aura Event Coordination System • Confidential Report")
-                .setFontSize(9)
-                .setFontColor(com.itextpdf.kernel.colors.ColorConstants.GRAY)
-                .setTextAlignment(com.itextpdf.layout.properties.TextAlignment.CENTER)
-                .setMarginTop(10);
-            document.add(footer);
-            
-            // Close document
-            document.close();
-            
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new RuntimeException("Error generating PDF report: " + e.getMessage());
+            reportMonth = (month == null || month.isBlank()) ? YearMonth.now() : YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!MonthlyReportService.isReportable(reportMonth)) {
+            return ResponseEntity.badRequest().build();
         }
+        
+        MonthlyReport report = eventCoordinatorService.getMonthlyReport(reportMonth);
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + report.getFilename() + "\"")
+                .eTag(report.getContentHash())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(report.getContent());
     }
 }
-
@@ -1,5 +1,8 @@
 package org.example.grandaura.controller;
 
+import org.example.grandaura.dto.BookingDetailView;
+import org.example.grandaura.dto.BookingPage;
+import org.example.grandaura.dto.BookingPageRequest;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.entity.FrontDeskOfficer;
 import org.example.grandaura.entity.UserAccount;
@@ -56,7 +59,7 @@ public class FrontDeskOfficerController {
      */
     @GetMapping("/check-in/{id}")
     public String viewBookingForCheckIn(@PathVariable Long id, Model model) {
-        Optional<Booking> booking = frontDeskOfficerService.getBookingById(id);
+        Optional<BookingDetailView> booking = frontDeskOfficerService.getBookingDetail(id);
         
         if (booking.isPresent()) {
             model.addAttribute("booking", booking.get());
@@ -87,9 +90,7 @@ public class FrontDeskOfficerController {
             model.addAttribute("customer", customer.get());
             
             // Get customer's bookings
-            List<Booking> bookings = frontDeskOfficerService.getAllBookings().stream()
-                    .filter(b -> b.getCustomerEmail() != null && b.getCustomerEmail().equals(email))
-                    .toList();
+            List<Booking> bookings = frontDeskOfficerService.getBookingsForCustomer(email);
             model.addAttribute("bookings", bookings);
             
             return "front-desk/guestDetails";
@@ -102,33 +103,32 @@ public class FrontDeskOfficerController {
      * Booking Management
      */
     @GetMapping("/bookings")
-    public String bookingManagement(@RequestParam(required = false) String date, Model model) {
-        List<Booking> bookings;
+    public String bookingManagement(@RequestParam(required = false) String date,
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(required = false) Integer size,
+                                    Model model) {
+        BookingPageRequest pageRequest = new BookingPageRequest(cursor, size);
+        // A mangled or stale link shows the first page instead of an error
+        pageRequest.discardMalformedCursor();
+        LocalDate searchDate = null;
         
         if (date != null && !date.isEmpty()) {
-            LocalDate searchDate = LocalDate.parse(date);
-            Map<String, Object> data = frontDeskOfficerService.getBookingsByDate(searchDate);
-            Object bookingsObj = data.get("bookings");
-            bookings = bookingsObj instanceof List ? (List<Booking>) bookingsObj : List.of();
+            searchDate = LocalDate.parse(date);
+            pageRequest.setStartDate(searchDate);
+            pageRequest.setEndDate(searchDate);
             model.addAttribute("selectedDate", searchDate);
-        } else {
-            bookings = frontDeskOfficerService.getAllBookings();
         }
         
-        model.addAttribute("bookings", bookings);
+        BookingPage page = frontDeskOfficerService.getBookingPage(pageRequest);
+        model.addAttribute("bookings", page.getItems());
+        model.addAttribute("page", page);
         
-        // Calculate statistics
-        int totalGuests = bookings.stream().mapToInt(Booking::getGuestCount).sum();
-        int avgGuestCount = bookings.isEmpty() ? 0 : totalGuests / bookings.size();
-        long upcomingCount = bookings.stream()
-                .filter(b -> b.getWeddingDate() != null && 
-                       b.getWeddingDate().isAfter(LocalDate.now()) && 
-                       b.getWeddingDate().isBefore(LocalDate.now().plusDays(8)))
-                .count();
-        
-        model.addAttribute("totalGuests", totalGuests);
-        model.addAttribute("avgGuestCount", avgGuestCount);
-        model.addAttribute("upcomingCount", upcomingCount);
+        // Statistics cover the whole listing, not just the current page
+        Map<String, Object> stats = frontDeskOfficerService.getBookingListStatistics(searchDate);
+        model.addAttribute("totalBookings", stats.get("totalBookings"));
+        model.addAttribute("totalGuests", stats.get("totalGuests"));
+        model.addAttribute("avgGuestCount", stats.get("avgGuestCount"));
+        model.addAttribute("upcomingCount", stats.get("upcomingCount"));
         
         return "front-desk/bookings";
     }
@@ -138,7 +138,7 @@ public class FrontDeskOfficerController {
      */
     @GetMapping("/bookings/{id}")
     public String viewBooking(@PathVariable Long id, Model model) {
-        Optional<Booking> booking = frontDeskOfficerService.getBookingById(id);
+        Optional<BookingDetailView> booking = frontDeskOfficerService.getBookingDetail(id);
         
         if (booking.isPresent()) {
             model.addAttribute("booking", booking.get());
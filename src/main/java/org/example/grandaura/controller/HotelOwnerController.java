@@ -1,5 +1,10 @@
 package org.example.grandaura.controller;
 
+import org.example.grandaura.dto.BookingDetailView;
+import org.example.grandaura.dto.BookingExportFilter;
+import org.example.grandaura.dto.BookingPage;
+import org.example.grandaura.dto.BookingPageRequest;
+import org.example.grandaura.dto.BookingStatsSnapshot;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.entity.HotelOwner;
 import org.example.grandaura.service.HotelOwnerService;
@@ -12,7 +17,6 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -38,23 +42,15 @@ public class HotelOwnerController {
      */
     @GetMapping("/dashboard")
     public String dashboard(Model model) {
-        // Get key statistics for dashboard
-        long totalBookings = hotelOwnerService.getTotalBookings();
-        int totalGuests = hotelOwnerService.getTotalGuests();
-        double averageGuests = hotelOwnerService.getAverageGuestCount();
-        List<Booking> upcomingBookings = hotelOwnerService.getUpcomingBookings();
-        String mostPopularVenue = hotelOwnerService.getMostPopularVenue();
-        
-        // Get recent bookings (last 10)
-        List<Booking> recentBookings = hotelOwnerService.getAllBookings().stream()
-                .limit(10)
-                .toList();
+        // Key statistics come from one aggregate snapshot
+        BookingStatsSnapshot snapshot = hotelOwnerService.getStatsSnapshot();
+        List<Booking> recentBookings = hotelOwnerService.getRecentBookings();
 
-        model.addAttribute("totalBookings", totalBookings);
-        model.addAttribute("totalGuests", totalGuests);
-        model.addAttribute("averageGuests", String.format("%.1f", averageGuests));
-        model.addAttribute("upcomingBookings", upcomingBookings.size());
-        model.addAttribute("mostPopularVenue", mostPopularVenue);
+        model.addAttribute("totalBookings", snapshot.getTotalBookings());
+        model.addAttribute("totalGuests", snapshot.getTotalGuests());
+        model.addAttribute("averageGuests", String.format("%.1f", snapshot.getAverageGuestCount()));
+        model.addAttribute("upcomingBookings", snapshot.getUpcomingBookings());
+        model.addAttribute("mostPopularVenue", snapshot.getMostPopularVenue());
         model.addAttribute("recentBookings", recentBookings);
         
         return "hotel-owner/dashboard";
@@ -68,19 +64,23 @@ public class HotelOwnerController {
             @RequestParam(required = false) String venue,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             Model model) {
         
-        List<Booking> bookings;
+        BookingPageRequest pageRequest = new BookingPageRequest(cursor, size);
+        // A mangled or stale link shows the first page instead of an error
+        pageRequest.discardMalformedCursor();
+        pageRequest.setVenue(venue);
+        pageRequest.setStartDate(startDate);
+        pageRequest.setEndDate(endDate);
+        // Only the first page pays for the COUNT query
+        pageRequest.setIncludeTotal(pageRequest.isFirstPage());
         
-        if (venue != null && !venue.isEmpty()) {
-            bookings = hotelOwnerService.getBookingsByVenue(venue);
-        } else if (startDate != null && endDate != null) {
-            bookings = hotelOwnerService.getBookingsByDateRange(startDate, endDate);
-        } else {
-            bookings = hotelOwnerService.getAllBookings();
-        }
+        BookingPage page = hotelOwnerService.getBookingPage(pageRequest);
         
-        model.addAttribute("bookings", bookings);
+        model.addAttribute("bookings", page.getItems());
+        model.addAttribute("page", page);
         model.addAttribute("selectedVenue", venue);
         model.addAttribute("startDate", startDate);
         model.addAttribute("endDate", endDate);
@@ -93,13 +93,11 @@ public class HotelOwnerController {
      */
     @GetMapping("/analytics")
     public String analytics(Model model) {
-        Map<String, Object> statistics = hotelOwnerService.getBookingStatistics();
-        Map<String, Long> venueUtilization = hotelOwnerService.getVenueUtilization();
-        Map<String, Long> monthlyStats = hotelOwnerService.getMonthlyBookingStats();
+        BookingStatsSnapshot snapshot = hotelOwnerService.getStatsSnapshot();
         
-        model.addAttribute("statistics", statistics);
-        model.addAttribute("venueUtilization", venueUtilization);
-        model.addAttribute("monthlyStats", monthlyStats);
+        model.addAttribute("statistics", snapshot.toMap());
+        model.addAttribute("venueUtilization", snapshot.getVenueUtilization());
+        model.addAttribute("monthlyStats", snapshot.getMonthlyStats());
         
         return "hotel-owner/analytics";
     }
@@ -127,7 +125,7 @@ public class HotelOwnerController {
      */
     @GetMapping("/bookings/{id}")
     public String viewBooking(@PathVariable Long id, Model model) {
-        Optional<Booking> booking = hotelOwnerService.getBookingById(id);
+        Optional<BookingDetailView> booking = hotelOwnerService.getBookingDetail(id);
         
         if (booking.isPresent()) {
             model.addAttribute("booking", booking.get());
@@ -138,105 +136,52 @@ public class HotelOwnerController {
     }
 
     /**
-     * Export bookings data (placeholder for future CSV export)
+     * Export bookings page with filters and a preview of the latest bookings
      */
     @GetMapping("/export")
     public String exportBookings(Model model) {
-        List<Booking> allBookings = hotelOwnerService.getAllBookings();
-        model.addAttribute("bookings", allBookings);
+        model.addAttribute("bookings", hotelOwnerService.getRecentBookings());
+        model.addAttribute("totalBookings", hotelOwnerService.getTotalBookings());
         model.addAttribute("exportDate", LocalDate.now());
         return "hotel-owner/export";
     }
 
     /**
      * Export bookings to CSV
+     * Rows are streamed from a database cursor straight into the response (chunked transfer),
+     * so the export never holds the full booking list in memory
      */
     @GetMapping("/export/csv")
-    public void exportBookingsToCSV(HttpServletResponse response) throws IOException {
-        List<Booking> bookings = hotelOwnerService.getAllBookings();
+    public void exportBookingsToCSV(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                    @RequestParam(required = false) String venue,
+                                    @RequestParam(required = false) String status,
+                                    HttpServletResponse response) throws IOException {
+        BookingExportFilter filter = new BookingExportFilter(startDate, endDate, venue, status);
         
         response.setContentType("text/csv");
-        response.setHeader("Content-Disposition", "attachment; filename=\"grand-aura-bookings-" + LocalDate.now() + ".csv\"");
-        
-        PrintWriter writer = response.getWriter();
-        
-        // Write CSV header
-        writer.println("ID,Customer Name,Email,Venue,Wedding Date,Guest Count,Special Requests");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"grand-aura-bookings" + filter.describe() + "-" + LocalDate.now() + ".csv\"");
         
-        // Write booking data
-        for (Booking booking : bookings) {
-            writer.println(String.format("%d,\"%s\",\"%s\",\"%s\",%s,%d,\"%s\"",
-                booking.getId(),
-                booking.getCustomerName(),
-                booking.getCustomerEmail(),
-                booking.getVenue(),
-                booking.getWeddingDate(),
-                booking.getGuestCount(),
-                booking.getSpecialRequests() != null ? booking.getSpecialRequests().replace("\"", "\"\"") : ""
-            ));
-        }
-        
-        writer.flush();
-        writer.close();
+        hotelOwnerService.exportBookingsCsv(filter, response.getWriter());
     }
 
     /**
-     * Export bookings to Excel
+     * Export bookings to Excel (XLSX)
+     * Booking rows are flushed through a sliding window, with venue utilization and monthly stats sheets
      */
     @GetMapping("/export/excel")
-    public void exportBookingsToExcel(HttpServletResponse response) throws IOException {
-        List<Booking> bookings = hotelOwnerService.getAllBookings();
+    public void exportBookingsToExcel(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                      @RequestParam(required = false) String venue,
+                                      @RequestParam(required = false) String status,
+                                      HttpServletResponse response) throws IOException {
+        BookingExportFilter filter = new BookingExportFilter(startDate, endDate, venue, status);
         
         response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-        response.setHeader("Content-Disposition", "attachment; filename=\"grand-aura-bookings-" + LocalDate.now() + ".xlsx\"");
-        
-        // Create Excel content (simplified version)
-        StringBuilder excelContent = new StringBuilder();
-        excelContent.append("<?xml version=\"1.0\"?>\n");
-        excelContent.append("<Workbook xmlns=\"urn:schemas-microsoft-com:office:spreadsheet\">\n");
-        excelContent.append("<Worksheet ss:Name=\"Bookings\">\n");
-        excelContent.append("<Table>\n");
-        
-        // Header row
-        excelContent.append("<Row>\n");
-        excelContent.append("<Cell><Data ss:Type=\"String\">ID</Data></Cell>\n");
-        excelContent.append("<Cell><Data ss:Type=\"String\">Customer Name</Data></Cell>\n");
-        excelContent.append("<Cell><Data ss:Type=\"String\">Email</Data></Cell>\n");
-        excelContent.append("<Cell><Data ss:Type=\"String\">Venue</Data></Cell>\n");
-        excelContent.append("<Cell><Data ss:Type=\"String\">Wedding Date</Data></Cell>\n");
-        excelContent.append("<Cell><Data ss:Type=\"String\">Guest Count</Data></Cell>\n");
-        excelContent.append("<Cell><Data ss:Type=\"String\">Special Requests</Data></Cell>\n");
-        excelContent.append("</Row>\n");
+        response.setHeader("Content-Disposition", "attachment; filename=\"grand-aura-bookings" + filter.describe() + "-" + LocalDate.now() + ".xlsx\"");
         
-        // Data rows
-        for (Booking booking : bookings) {
-            excelContent.append("<Row>\n");
-            excelContent.append("<Cell><Data ss:Type=\"Number\">").append(booking.getId()).append("</Data></Cell>\n");
-            excelContent.append("<Cell><Data ss:Type=\"String\">").append(escapeXml(booking.getCustomerName())).append("</Data></Cell>\n");
-            excelContent.append("<Cell><Data ss:Type=\"String\">").append(escapeXml(booking.getCustomerEmail())).append("</Data></Cell>\n");
-            excelContent.append("<Cell><Data ss:Type=\"String\">").append(escapeXml(booking.getVenue())).append("</Data></Cell>\n");
-            excelContent.append("<Cell><Data ss:Type=\"String\">").append(booking.getWeddingDate()).append("</Data></Cell>\n");
-            excelContent.append("<Cell><Data ss:Type=\"Number\">").append(booking.getGuestCount()).append("</Data></Cell>\n");
-            excelContent.append("<Cell><Data ss:Type=\"String\">").append(escapeXml(booking.getSpecialRequests() != null ? booking.getSpecialRequests() : "")).append("</Data></Cell>\n");
-            excelContent.append("</Row>\n");
-        }
-        
-        excelContent.append("</Table>\n");
-        excelContent.append("</Worksheet>\n");
-        excelContent.append("</Workbook>\n");
-        
-        response.getWriter().write(excelContent.toString());
-        response.getWriter().flush();
-        response.getWriter().close();
-    }
-    
-    private String escapeXml(String input) {
-        if (input == null) return "";
-        return input.replace("&", "&amp;")
-                   .replace("<", "&lt;")
-                   .replace(">", "&gt;")
-                   .replace("\"", "&quot;")
-                   .replace("'", "&apos;");
+        hotelOwnerService.exportBookingsXlsx(filter, response.getOutputStream());
     }
 
     /**
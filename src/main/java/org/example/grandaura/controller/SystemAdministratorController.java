@@ -1,5 +1,6 @@
 package org.example.grandaura.controller;
 
+import org.example.grandaura.dto.BookingDetailView;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.entity.EventCoordinator;
 import org.example.grandaura.entity.HotelOwner;
@@ -7,6 +8,7 @@ import org.example.grandaura.entity.SystemAdministrator;
 import org.example.grandaura.entity.UserAccount;
 import org.example.grandaura.entity.CateringManager;
 import org.example.grandaura.service.SystemAdministratorService;
+import org.example.grandaura.service.SystemDashboardService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -30,10 +32,13 @@ import java.util.Optional;
 public class SystemAdministratorController {
 
     private final SystemAdministratorService systemAdministratorService;
+    private final SystemDashboardService systemDashboardService;
 
     @Autowired
-    public SystemAdministratorController(SystemAdministratorService systemAdministratorService) {
+    public SystemAdministratorController(SystemAdministratorService systemAdministratorService,
+                                         SystemDashboardService systemDashboardService) {
         this.systemAdministratorService = systemAdministratorService;
+        this.systemDashboardService = systemDashboardService;
     }
 
     /**
@@ -41,15 +46,8 @@ public class SystemAdministratorController {
      */
     @GetMapping("/dashboard")
     public String dashboard(Model model) {
-        Map<String, Object> systemStats = systemAdministratorService.getSystemStatistics();
-        Map<String, Object> databaseHealth = systemAdministratorService.getDatabaseHealth();
-        Map<String, Object> systemPerformance = systemAdministratorService.getSystemPerformance();
-        Map<String, Object> userActivity = systemAdministratorService.getUserActivity();
-        
-        model.addAttribute("systemStats", systemStats);
-        model.addAttribute("databaseHealth", databaseHealth);
-        model.addAttribute("systemPerformance", systemPerformance);
-        model.addAttribute("userActivity", userActivity);
+        // Sections are queried in parallel; a slow section is listed in degradedSections
+        model.addAllAttributes(systemDashboardService.getDashboardModel());
         
         return "system-admin/dashboard";
     }
@@ -141,15 +139,8 @@ public class SystemAdministratorController {
      */
     @GetMapping("/analytics")
     public String analytics(Model model) {
-        Map<String, Object> systemStats = systemAdministratorService.getSystemStatistics();
-        Map<String, Object> databaseHealth = systemAdministratorService.getDatabaseHealth();
-        Map<String, Object> systemPerformance = systemAdministratorService.getSystemPerformance();
-        Map<String, Object> userActivity = systemAdministratorService.getUserActivity();
-        
-        model.addAttribute("systemStats", systemStats);
-        model.addAttribute("databaseHealth", databaseHealth);
-        model.addAttribute("systemPerformance", systemPerformance);
-        model.addAttribute("userActivity", userActivity);
+        // Sections are queried in parallel; a slow section is listed in degradedSections
+        model.addAllAttributes(systemDashboardService.getDashboardModel());
         
         return "system-admin/analytics";
     }
@@ -290,10 +281,7 @@ public class SystemAdministratorController {
      */
     @GetMapping("/bookings/{id}")
     public String viewBooking(@PathVariable Long id, Model model) {
-        List<Booking> bookings = systemAdministratorService.getAllBookings();
-        Optional<Booking> booking = bookings.stream()
-                .filter(b -> b.getId().equals(id))
-                .findFirst();
+        Optional<BookingDetailView> booking = systemAdministratorService.getBookingDetail(id);
         
         if (booking.isPresent()) {
             model.addAttribute("booking", booking.get());
@@ -570,9 +558,16 @@ public class SystemAdministratorController {
      * Cleanup old bookings without catering options
      */
     @PostMapping("/cleanup-old-bookings")
-    public String cleanupOldBookings(RedirectAttributes redirectAttributes) {
+    public String cleanupOldBookings(@RequestParam(defaultValue = "false") boolean dryRun,
+                                     RedirectAttributes redirectAttributes) {
         try {
-            int deletedCount = systemAdministratorService.cleanupOldBookings();
+            if (dryRun) {
+                long matchedCount = systemAdministratorService.countOldBookings();
+                redirectAttributes.addFlashAttribute("successMessage",
+                    "Dry run: " + matchedCount + " old bookings without catering options would be deleted.");
+                return "redirect:/system-admin/database";
+            }
+            long deletedCount = systemAdministratorService.cleanupOldBookings();
             redirectAttributes.addFlashAttribute("successMessage", 
                 "Cleanup completed! Deleted " + deletedCount + " old bookings without catering options.");
         } catch (Exception e) {
@@ -0,0 +1,50 @@
+package org.example.grandaura.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for booking listings
+ * Points at the last row of a page by its (weddingDate, id) sort key
+ */
+public final class BookingCursor {
+
+    private final LocalDate weddingDate;
+    private final Long id;
+
+    public BookingCursor(LocalDate weddingDate, Long id) {
+        this.weddingDate = weddingDate;
+        this.id = id;
+    }
+
+    public LocalDate getWeddingDate() { return weddingDate; }
+    public Long getId() { return id; }
+
+    /**
+     * Encode as a URL-safe token
+     */
+    public String encode() {
+        String raw = weddingDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static BookingCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid booking cursor");
+            }
+            return new BookingCursor(LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid booking cursor", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.grandaura.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Columns of one booking for a detail page, filled by a projection without loading the entity
+ * Each query selects only the columns of its {@link BookingDetailView.Scope}; the others read as null.
+ */
+public interface BookingDetailRow {
+    Long getId();
+    String getCustomerName();
+    String getCustomerEmail();
+    String getBrideName();
+    String getGroomName();
+    LocalDate getWeddingDate();
+    String getVenue();
+    String getPreferredVenue();
+    Integer getGuestCount();
+    Integer getEstimatedGuestCount();
+    String getSpecialRequests();
+    String getCateringPackage();
+    String getDietaryRequirements();
+    String getSpecialCateringRequests();
+    String getBookingStatus();
+    String getFrontDeskNotes();
+    LocalDateTime getCheckInTime();
+    LocalDateTime getCheckOutTime();
+}
@@ -0,0 +1,111 @@
+package org.example.grandaura.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only view of one booking for the role detail pages
+ * Built from a {@link BookingDetailRow} holding only the columns of the requested scope, plus the chosen
+ * menu items for the scopes that show them. Columns outside the scope read as null. Views are immutable so
+ * they can be shared from the detail cache.
+ */
+public class BookingDetailView {
+
+    /**
+     * Column sets of the detail pages
+     */
+    public enum Scope {
+        // Hotel owner and event coordinator: customer, date, venue, guests and requests
+        SUMMARY(false),
+        // Catering manager: couple, venue, guests, catering details and menu items
+        CATERING(true),
+        // Front desk and system administrator: everything, including status, check-in and notes
+        FULL(true);
+
+        private final boolean withMenuItems;
+
+        Scope(boolean withMenuItems) {
+            this.withMenuItems = withMenuItems;
+        }
+
+        public boolean isWithMenuItems() { return withMenuItems; }
+    }
+
+    private final Scope scope;
+    private final Long id;
+    private final String customerName;
+    private final String customerEmail;
+    private final String brideName;
+    private final String groomName;
+    private final LocalDate weddingDate;
+    private final String venue;
+    private final String preferredVenue;
+    private final int guestCount;
+    private final Integer estimatedGuestCount;
+    private final String specialRequests;
+    private final String cateringPackage;
+    private final String dietaryRequirements;
+    private final String specialCateringRequests;
+    private final String bookingStatus;
+    private final String frontDeskNotes;
+    private final LocalDateTime checkInTime;
+    private final LocalDateTime checkOutTime;
+    private final List<Long> menuIds;
+    private final List<String> menuNames;
+
+    public BookingDetailView(Scope scope, BookingDetailRow row, List<Long> menuIds, List<String> menuNames) {
+        this.scope = scope;
+        this.id = row.getId();
+        this.customerName = row.getCustomerName();
+        this.customerEmail = row.getCustomerEmail();
+        this.brideName = row.getBrideName();
+        this.groomName = row.getGroomName();
+        this.weddingDate = row.getWeddingDate();
+        this.venue = row.getVenue();
+        this.preferredVenue = row.getPreferredVenue();
+        this.guestCount = row.getGuestCount() != null ? row.getGuestCount() : 0;
+        this.estimatedGuestCount = row.getEstimatedGuestCount();
+        this.specialRequests = row.getSpecialRequests();
+        this.cateringPackage = row.getCateringPackage();
+        this.dietaryRequirements = row.getDietaryRequirements();
+        this.specialCateringRequests = row.getSpecialCateringRequests();
+        this.bookingStatus = row.getBookingStatus();
+        this.frontDeskNotes = row.getFrontDeskNotes();
+        this.checkInTime = row.getCheckInTime();
+        this.checkOutTime = row.getCheckOutTime();
+        this.menuIds = List.copyOf(menuIds);
+        this.menuNames = List.copyOf(menuNames);
+    }
+
+    public Scope getScope() { return scope; }
+    public Long getId() { return id; }
+    public String getCustomerName() { return customerName; }
+    public String getCustomerEmail() { return customerEmail; }
+    public String getBrideName() { return brideName; }
+    public String getGroomName() { return groomName; }
+    public LocalDate getWeddingDate() { return weddingDate; }
+    public String getVenue() { return venue; }
+    public String getPreferredVenue() { return preferredVenue; }
+    public int getGuestCount() { return guestCount; }
+    public Integer getEstimatedGuestCount() { return estimatedGuestCount; }
+    public String getSpecialRequests() { return specialRequests; }
+    public String getCateringPackage() { return cateringPackage; }
+    public String getDietaryRequirements() { return dietaryRequirements; }
+    public String getSpecialCateringRequests() { return specialCateringRequests; }
+    public String getBookingStatus() { return bookingStatus; }
+    public String getFrontDeskNotes() { return frontDeskNotes; }
+    public LocalDateTime getCheckInTime() { return checkInTime; }
+    public LocalDateTime getCheckOutTime() { return checkOutTime; }
+    public List<Long> getMenuIds() { return menuIds; }
+    public List<String> getMenuNames() { return menuNames; }
+
+    // Same text as Booking.getSelectedMenuItems so the templates read either
+    public String getSelectedMenuItems() {
+        return menuNames.isEmpty() ? null : String.join(", ", menuNames);
+    }
+
+    public boolean includesMenu(Long menuId) {
+        return menuIds.contains(menuId);
+    }
+}
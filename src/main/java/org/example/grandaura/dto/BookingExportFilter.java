@@ -0,0 +1,56 @@
+package org.example.grandaura.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters applied to a booking export
+ * Every field is optional; an empty filter exports every booking
+ */
+public class BookingExportFilter {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String venue;
+    private String status;
+
+    public BookingExportFilter() {}
+
+    public BookingExportFilter(LocalDate startDate, LocalDate endDate, String venue, String status) {
+        setStartDate(startDate);
+        setEndDate(endDate);
+        setVenue(venue);
+        setStatus(status);
+    }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getVenue() { return venue; }
+    public void setVenue(String venue) {
+        this.venue = (venue == null || venue.isBlank()) ? null : venue;
+    }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) {
+        this.status = (status == null || status.isBlank()) ? null : status;
+    }
+
+    /**
+     * Suffix for export file names, e.g. "-grand-ballroom-2025-01-01-to-2025-12-31"
+     */
+    public String describe() {
+        StringBuilder suffix = new StringBuilder();
+        if (venue != null) suffix.append('-').append(venue);
+        if (status != null) suffix.append('-').append(status);
+        if (startDate != null) suffix.append("-from-").append(startDate);
+        if (endDate != null) suffix.append("-to-").append(endDate);
+        return suffix.toString().toLowerCase().replaceAll("[^a-z0-9-]+", "-");
+    }
+}
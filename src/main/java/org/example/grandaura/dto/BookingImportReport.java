@@ -0,0 +1,67 @@
+package org.example.grandaura.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk booking import: row counts, the first rejected rows with their reasons and the elapsed time
+ * Rows are numbered from 1, not counting the CSV header; only the first errors are listed, rejected counts them all.
+ * An import stopped by unreadable input carries the reason in error and, for CSV, the input line it failed on;
+ * the counts then cover the rows before it, which stay imported.
+ */
+public class BookingImportReport {
+
+    /**
+     * Why one input row was not imported
+     */
+    public record RowError(long row, String message) {}
+
+    private final String format;
+    private final long rowsRead;
+    private final long imported;
+    private final long rejected;
+    private final List<RowError> errors;
+    private final double seconds;
+    private final String error;
+    private final Long errorLine;
+
+    public BookingImportReport(String format, long rowsRead, long imported, long rejected, List<RowError> errors,
+                               double seconds) {
+        this(format, rowsRead, imported, rejected, errors, seconds, null, null);
+    }
+
+    public BookingImportReport(String format, long rowsRead, long imported, long rejected, List<RowError> errors,
+                               double seconds, String error, Long errorLine) {
+        this.format = format;
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.errors = errors;
+        this.seconds = seconds;
+        this.error = error;
+        this.errorLine = errorLine;
+    }
+
+    /**
+     * Report of an upload refused before any row was read, e.g. an unsupported format or CSV header
+     */
+    public static BookingImportReport refused(String format, String error) {
+        return new BookingImportReport(format, 0, 0, 0, List.of(), 0, error, null);
+    }
+
+    public String getFormat() { return format; }
+    public long getRowsRead() { return rowsRead; }
+    public long getImported() { return imported; }
+    public long getRejected() { return rejected; }
+    public List<RowError> getErrors() { return errors; }
+    public double getSeconds() { return seconds; }
+    public String getError() { return error; }
+    public Long getErrorLine() { return errorLine; }
+
+    public boolean isComplete() {
+        return error == null;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errors.size() < rejected;
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.grandaura.dto;
+
+import org.example.grandaura.entity.Booking;
+
+import java.util.List;
+
+/**
+ * One keyset page of bookings ordered by (weddingDate, id)
+ * totalCount is only populated when the request asked for it
+ */
+public class BookingPage {
+
+    private final List<Booking> items;
+    private final String nextCursor;
+    private final int size;
+    private final Long totalCount;
+
+    public BookingPage(List<Booking> items, String nextCursor, int size, Long totalCount) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.size = size;
+        this.totalCount = totalCount;
+    }
+
+    public List<Booking> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public int getSize() { return size; }
+    public Long getTotalCount() { return totalCount; }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
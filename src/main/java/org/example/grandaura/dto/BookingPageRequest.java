@@ -0,0 +1,87 @@
+package org.example.grandaura.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Keyset page request for booking listings
+ * Carries the optional filters, the cursor of the previous page and the page size
+ */
+public class BookingPageRequest {
+
+    public static final int DEFAULT_PAGE_SIZE = 25;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private String cursor;
+    private int size = DEFAULT_PAGE_SIZE;
+    private boolean includeTotal;
+    private String venue;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String status;
+
+    public BookingPageRequest() {}
+
+    public BookingPageRequest(String cursor, Integer size) {
+        setCursor(cursor);
+        setSize(size);
+    }
+
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) {
+        this.cursor = (cursor == null || cursor.isBlank()) ? null : cursor;
+    }
+
+    public int getSize() { return size; }
+    /**
+     * Clamp the requested size into [1, MAX_PAGE_SIZE]; null selects the default
+     */
+    public void setSize(Integer size) {
+        this.size = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    public boolean isIncludeTotal() { return includeTotal; }
+    public void setIncludeTotal(boolean includeTotal) {
+        this.includeTotal = includeTotal;
+    }
+
+    public String getVenue() { return venue; }
+    public void setVenue(String venue) {
+        this.venue = (venue == null || venue.isEmpty()) ? null : venue;
+    }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) {
+        this.status = (status == null || status.isEmpty()) ? null : status;
+    }
+
+    /**
+     * Drop a cursor that does not decode, so the listing starts over at the first page
+     * Returns whether a cursor was dropped
+     */
+    public boolean discardMalformedCursor() {
+        if (cursor == null) {
+            return false;
+        }
+        try {
+            BookingCursor.decode(cursor);
+            return false;
+        } catch (IllegalArgumentException e) {
+            cursor = null;
+            return true;
+        }
+    }
+
+    public boolean isFirstPage() {
+        return cursor == null;
+    }
+}
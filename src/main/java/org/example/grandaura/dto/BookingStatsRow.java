@@ -0,0 +1,14 @@
+package org.example.grandaura.dto;
+
+/**
+ * One (venue, wedding month) group of the booking statistics aggregate
+ * Filled by a GROUP BY projection, no Booking entities are loaded
+ */
+public interface BookingStatsRow {
+    String getVenue();
+    Integer getWeddingMonth();
+    Long getBookings();
+    Long getGuests();
+    Long getUpcoming();
+    Long getSpecialRequests();
+}
@@ -0,0 +1,121 @@
+package org.example.grandaura.dto;
+
+import java.time.Month;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Booking statistics for the dashboards, analytics pages and PDF report
+ * Built either from the booking counters or from a single GROUP BY (venue, month) aggregate
+ */
+public class BookingStatsSnapshot {
+
+    public static final String NO_BOOKINGS = "No bookings yet";
+
+    private final long totalBookings;
+    private final long totalGuests;
+    private final long upcomingBookings;
+    private final long bookingsWithSpecialRequests;
+    private final Map<String, Long> venueUtilization;
+    private final Map<String, Long> monthlyStats;
+
+    private BookingStatsSnapshot(long totalBookings, long totalGuests, long upcomingBookings,
+                                 long bookingsWithSpecialRequests, Map<String, Long> venueUtilization,
+                                 Map<String, Long> monthlyStats) {
+        this.totalBookings = totalBookings;
+        this.totalGuests = totalGuests;
+        this.upcomingBookings = upcomingBookings;
+        this.bookingsWithSpecialRequests = bookingsWithSpecialRequests;
+        this.venueUtilization = venueUtilization;
+        this.monthlyStats = monthlyStats;
+    }
+
+    /**
+     * Fold the grouped rows into totals, a venue map and a month map
+     */
+    public static BookingStatsSnapshot from(List<BookingStatsRow> rows) {
+        long totalBookings = 0;
+        long totalGuests = 0;
+        long upcoming = 0;
+        long specialRequests = 0;
+        Map<String, Long> byVenue = new HashMap<>();
+        Map<String, Long> byMonth = new HashMap<>();
+
+        for (BookingStatsRow row : rows) {
+            long bookings = valueOf(row.getBookings());
+            totalBookings += bookings;
+            totalGuests += valueOf(row.getGuests());
+            upcoming += valueOf(row.getUpcoming());
+            specialRequests += valueOf(row.getSpecialRequests());
+            if (row.getVenue() != null) {
+                byVenue.merge(row.getVenue(), bookings, Long::sum);
+            }
+            if (row.getWeddingMonth() != null) {
+                byMonth.merge(Month.of(row.getWeddingMonth()).toString(), bookings, Long::sum);
+            }
+        }
+
+        return of(totalBookings, totalGuests, upcoming, specialRequests, byVenue, byMonth);
+    }
+
+    /**
+     * Build a snapshot from precomputed totals, ordering venues busiest first and months in calendar order
+     * Month keys are month names as produced by {@link Month#toString()}
+     */
+    public static BookingStatsSnapshot of(long totalBookings, long totalGuests, long upcomingBookings,
+                                          long bookingsWithSpecialRequests, Map<String, Long> venueCounts,
+                                          Map<String, Long> monthCounts) {
+        Map<String, Long> venueUtilization = new LinkedHashMap<>();
+        venueCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> venueUtilization.put(entry.getKey(), entry.getValue()));
+
+        Map<Month, Long> byMonth = new EnumMap<>(Month.class);
+        monthCounts.forEach((month, count) -> byMonth.put(Month.valueOf(month), count));
+        Map<String, Long> monthlyStats = new LinkedHashMap<>();
+        byMonth.forEach((month, count) -> monthlyStats.put(month.toString(), count));
+
+        return new BookingStatsSnapshot(totalBookings, totalGuests, upcomingBookings, bookingsWithSpecialRequests,
+                Collections.unmodifiableMap(venueUtilization), Collections.unmodifiableMap(monthlyStats));
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    public long getTotalBookings() { return totalBookings; }
+    public long getTotalGuests() { return totalGuests; }
+    public long getUpcomingBookings() { return upcomingBookings; }
+    public long getBookingsWithSpecialRequests() { return bookingsWithSpecialRequests; }
+    public Map<String, Long> getVenueUtilization() { return venueUtilization; }
+    public Map<String, Long> getMonthlyStats() { return monthlyStats; }
+
+    public double getAverageGuestCount() {
+        return totalBookings > 0 ? (double) totalGuests / totalBookings : 0.0;
+    }
+
+    public String getMostPopularVenue() {
+        return venueUtilization.isEmpty() ? NO_BOOKINGS : venueUtilization.keySet().iterator().next();
+    }
+
+    /**
+     * Statistics summary in the map shape the dashboards, analytics pages and PDF report read
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalBookings", totalBookings);
+        statistics.put("totalGuests", totalGuests);
+        statistics.put("averageGuestCount", getAverageGuestCount());
+        statistics.put("upcomingBookings", upcomingBookings);
+        statistics.put("mostPopularVenue", getMostPopularVenue());
+        statistics.put("venueUtilization", venueUtilization);
+        statistics.put("monthlyStats", monthlyStats);
+        statistics.put("bookingsWithSpecialRequests", bookingsWithSpecialRequests);
+        return statistics;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.grandaura.dto;
+
+/**
+ * Number of bookings in one front desk status, filled by a GROUP BY projection
+ */
+public interface BookingStatusCount {
+    String getStatus();
+    Long getBookings();
+}
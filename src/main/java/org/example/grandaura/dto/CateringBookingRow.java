@@ -0,0 +1,15 @@
+package org.example.grandaura.dto;
+
+import java.time.LocalDate;
+
+/**
+ * What the catering forecast needs from one booking, filled by a projection without loading the entity
+ */
+public interface CateringBookingRow {
+    Long getId();
+    LocalDate getWeddingDate();
+    int getGuestCount();
+    Integer getEstimatedGuestCount();
+    Long getMenuPlanId();
+    String getDietaryRequirements();
+}
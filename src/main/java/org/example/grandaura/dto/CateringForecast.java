@@ -0,0 +1,48 @@
+package org.example.grandaura.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Catering demand for a date window: totals per day, per ISO week (Monday to Sunday) and for the whole window
+ * Dish, course and allergen maps count portions, largest first; dietary maps count guests.
+ */
+public class CateringForecast {
+
+    /**
+     * Demand of the non-cancelled bookings between start and end inclusive
+     */
+    public record Period(LocalDate start, LocalDate end, int events, long guests,
+                         Map<String, Long> dishes, Map<String, Long> courses,
+                         Map<String, Long> allergens, Map<String, Long> dietary) {
+
+        public long getPortions() {
+            return dishes.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public long dietaryGuests(String requirement) {
+            return dietary.getOrDefault(requirement, 0L);
+        }
+    }
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final List<Period> days;
+    private final List<Period> weeks;
+    private final Period total;
+
+    public CateringForecast(LocalDate from, LocalDate to, List<Period> days, List<Period> weeks, Period total) {
+        this.from = from;
+        this.to = to;
+        this.days = days;
+        this.weeks = weeks;
+        this.total = total;
+    }
+
+    public LocalDate getFrom() { return from; }
+    public LocalDate getTo() { return to; }
+    public List<Period> getDays() { return days; }
+    public List<Period> getWeeks() { return weeks; }
+    public Period getTotal() { return total; }
+}
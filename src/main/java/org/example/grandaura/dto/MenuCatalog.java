@@ -0,0 +1,144 @@
+package org.example.grandaura.dto;
+
+import org.example.grandaura.entity.Menu;
+import org.example.grandaura.entity.MenuPlan;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable, versioned snapshot of every Menu and MenuPlan, pre-grouped for the booking and catering pages
+ * The entities are detached copies shared by all requests and must be treated as read-only
+ */
+public class MenuCatalog {
+
+    private final long version;
+    private final LocalDateTime loadedAt;
+    private final List<Menu> menus;
+    private final List<Menu> availableMenus;
+    private final Map<Long, Menu> menusById;
+    private final Map<String, Menu> menusByName;
+    private final Map<String, List<Menu>> availableMenusByCategory;
+    private final Map<String, List<Menu>> availableMenusByCuisine;
+    private final List<String> categories;
+    private final List<String> cuisines;
+    private final List<MenuPlan> menuPlans;
+    private final List<MenuPlan> activeMenuPlans;
+    private final Map<Long, MenuPlan> menuPlansById;
+    private final Map<String, List<MenuPlan>> menuPlansByCategory;
+
+    public MenuCatalog(long version, List<Menu> menus, List<MenuPlan> menuPlans) {
+        this.version = version;
+        this.loadedAt = LocalDateTime.now();
+        this.menus = menus.stream()
+                .sorted(Comparator.comparing(Menu::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        this.availableMenus = this.menus.stream()
+                .filter(menu -> Boolean.TRUE.equals(menu.getIsAvailable()))
+                .toList();
+        this.menusById = this.menus.stream()
+                .filter(menu -> menu.getId() != null)
+                .collect(Collectors.toUnmodifiableMap(Menu::getId, Function.identity()));
+        // Names are not unique; the oldest menu wins, matching how legacy name lists were migrated
+        this.menusByName = this.menus.stream()
+                .filter(menu -> menu.getName() != null)
+                .collect(Collectors.toUnmodifiableMap(menu -> nameKey(menu.getName()), Function.identity(),
+                        (first, second) -> first));
+        this.availableMenusByCategory = groupBy(availableMenus, Menu::getCategory);
+        this.availableMenusByCuisine = groupBy(availableMenus, Menu::getCuisine);
+        this.categories = distinctSorted(this.menus, Menu::getCategory);
+        this.cuisines = distinctSorted(this.menus, Menu::getCuisine);
+        this.menuPlans = menuPlans.stream()
+                .sorted(Comparator.comparing(MenuPlan::getPlanName, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        this.activeMenuPlans = this.menuPlans.stream()
+                .filter(plan -> Boolean.TRUE.equals(plan.getIsActive()))
+                .toList();
+        this.menuPlansByCategory = groupBy(this.menuPlans, MenuPlan::getCategory);
+        this.menuPlansById = this.menuPlans.stream()
+                .filter(plan -> plan.getId() != null)
+                .collect(Collectors.toUnmodifiableMap(MenuPlan::getId, Function.identity()));
+    }
+
+    public long getVersion() { return version; }
+    public LocalDateTime getLoadedAt() { return loadedAt; }
+    public List<Menu> getMenus() { return menus; }
+    public List<Menu> getAvailableMenus() { return availableMenus; }
+    public Map<String, List<Menu>> getAvailableMenusByCategory() { return availableMenusByCategory; }
+    public Map<String, List<Menu>> getAvailableMenusByCuisine() { return availableMenusByCuisine; }
+    public List<String> getCategories() { return categories; }
+    public List<String> getCuisines() { return cuisines; }
+    public List<MenuPlan> getMenuPlans() { return menuPlans; }
+    public List<MenuPlan> getActiveMenuPlans() { return activeMenuPlans; }
+    public Map<String, List<MenuPlan>> getMenuPlansByCategory() { return menuPlansByCategory; }
+
+    public List<Menu> getAvailableMenusByCategory(String category) {
+        return availableMenusByCategory.getOrDefault(category, List.of());
+    }
+
+    public List<Menu> getAvailableMenusByCuisine(String cuisine) {
+        return availableMenusByCuisine.getOrDefault(cuisine, List.of());
+    }
+
+    public List<MenuPlan> getMenuPlansByCategory(String category) {
+        return menuPlansByCategory.getOrDefault(category, List.of());
+    }
+
+    /**
+     * The menu with this id, or null
+     */
+    public Menu getMenu(Long id) {
+        return id != null ? menusById.get(id) : null;
+    }
+
+    /**
+     * The menu plan with this id, or null
+     */
+    public MenuPlan getMenuPlan(Long id) {
+        return id != null ? menuPlansById.get(id) : null;
+    }
+
+    /**
+     * The menus with the given ids, in the given order; unknown ids are skipped
+     */
+    public List<Menu> getMenusById(Collection<Long> ids) {
+        return ids.stream().map(menusById::get).filter(Objects::nonNull).distinct().toList();
+    }
+
+    /**
+     * The menu with this name, ignoring case and surrounding spaces, or null
+     */
+    public Menu findMenuByName(String name) {
+        return name != null ? menusByName.get(nameKey(name)) : null;
+    }
+
+    private static String nameKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> Map<String, List<T>> groupBy(List<T> items, Function<T, String> key) {
+        Map<String, List<T>> grouped = items.stream()
+                .filter(item -> key.apply(item) != null)
+                .collect(Collectors.groupingBy(key, TreeMap::new, Collectors.toUnmodifiableList()));
+        return Collections.unmodifiableMap(new LinkedHashMap<>(grouped));
+    }
+
+    private static <T> List<String> distinctSorted(List<T> items, Function<T, String> key) {
+        return items.stream()
+                .map(key)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.grandaura.dto;
+
+/**
+ * Portions of one menu item to prepare across the bookings of a date range, filled by a projection
+ * Portions are the item's servings per guest times each booking's estimated (or actual) guest count.
+ */
+public interface MenuDemandRow {
+    Long getMenuId();
+    String getMenuName();
+    Long getBookings();
+    Long getPortions();
+}
@@ -0,0 +1,10 @@
+package org.example.grandaura.dto;
+
+/**
+ * One booking menu item's menu and servings per guest, filled by a projection without loading the entity
+ */
+public interface MenuItemQuantityRow {
+    Long getBookingId();
+    Long getMenuId();
+    int getQuantity();
+}
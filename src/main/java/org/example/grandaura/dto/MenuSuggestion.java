@@ -0,0 +1,13 @@
+package org.example.grandaura.dto;
+
+import org.example.grandaura.entity.Menu;
+
+/**
+ * One menu search autocomplete entry
+ */
+public record MenuSuggestion(Long id, String name, String category, String dietaryInfo) {
+
+    public static MenuSuggestion of(Menu menu) {
+        return new MenuSuggestion(menu.getId(), menu.getName(), menu.getCategory(), menu.getDietaryInfo());
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.grandaura.dto;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * A generated monthly coordinator report: the PDF bytes, their SHA-256 content hash (used as the ETag)
+ * and the booking revision of the month it was generated from
+ */
+public class MonthlyReport {
+
+    private final YearMonth month;
+    private final byte[] content;
+    private final String contentHash;
+    private final long revision;
+    private final LocalDateTime generatedAt;
+
+    public MonthlyReport(YearMonth month, byte[] content, String contentHash, long revision, LocalDateTime generatedAt) {
+        this.month = month;
+        this.content = content;
+        this.contentHash = contentHash;
+        this.revision = revision;
+        this.generatedAt = generatedAt;
+    }
+
+    public YearMonth getMonth() { return month; }
+
+    /**
+     * The PDF bytes; shared with every download, so callers must not modify them
+     */
+    public byte[] getContent() { return content; }
+
+    public String getContentHash() { return contentHash; }
+
+    public long getRevision() { return revision; }
+
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+
+    public String getFilename() {
+        return "Grand_Aura_Monthly_Report_" + month.getYear() + "_" + String.format("%02d", month.getMonthValue()) + ".pdf";
+    }
+}
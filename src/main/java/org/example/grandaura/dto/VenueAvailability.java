@@ -0,0 +1,31 @@
+package org.example.grandaura.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Availability of one venue: whether the requested date is free and the next free dates in the searched range
+ * maxGuests is null for venues outside the published venue list
+ */
+public class VenueAvailability {
+
+    private final String venue;
+    private final Integer maxGuests;
+    private final LocalDate date;
+    private final Boolean dateFree;
+    private final List<LocalDate> freeDates;
+
+    public VenueAvailability(String venue, Integer maxGuests, LocalDate date, Boolean dateFree, List<LocalDate> freeDates) {
+        this.venue = venue;
+        this.maxGuests = maxGuests;
+        this.date = date;
+        this.dateFree = dateFree;
+        this.freeDates = freeDates;
+    }
+
+    public String getVenue() { return venue; }
+    public Integer getMaxGuests() { return maxGuests; }
+    public LocalDate getDate() { return date; }
+    public Boolean getDateFree() { return dateFree; }
+    public List<LocalDate> getFreeDates() { return freeDates; }
+}
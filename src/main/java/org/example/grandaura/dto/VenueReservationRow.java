@@ -0,0 +1,11 @@
+package org.example.grandaura.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Venue and date held by an active booking, filled by a projection without loading the entity
+ */
+public interface VenueReservationRow {
+    String getVenue();
+    LocalDate getWeddingDate();
+}
@@ -1,20 +1,73 @@
 package org.example.grandaura.entity;
 
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import jakarta.persistence.Column;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Index;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.example.grandaura.service.BookingChangeListener;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.format.annotation.DateTimeFormat;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Entity
+@Table(indexes = {
+		@Index(name = "idx_booking_wedding_date", columnList = "wedding_date"),
+		@Index(name = "idx_booking_venue_date", columnList = "venue, wedding_date"),
+		@Index(name = "idx_booking_status_date", columnList = "booking_status, wedding_date"),
+		@Index(name = "idx_booking_customer_email", columnList = "customer_email")
+}, uniqueConstraints = {
+		@UniqueConstraint(name = "uk_booking_reservation_key", columnNames = "reservation_key")
+})
+@EntityListeners(BookingChangeListener.class)
 public class Booking {
+    public static final String STATUS_CANCELLED = "Cancelled";
+    public static final String RELEASED_PREFIX = "released:";
+
+    /**
+     * Validation group for rules that only apply to bookings submitted through the forms
+     * Persist-time validation skips it, so past bookings can still be updated, imported and restored.
+     */
+    public interface Submission {}
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "booking_seq", allocationSize = 50)
     private Long id;
 
+	// Optimistic lock, edits made against a stale copy are rejected
+	@Version
+	@Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+	private long version;
+
+	// Venue/date slot held by this booking ("venue|date"), unique so concurrent creates have a single winner
+	// Cancelled bookings release the slot by switching to a "released:" key
+	@Column(name = "reservation_key", length = 150)
+	private String reservationKey;
+
 	@NotBlank
 	@Size(max = 100)
 	@Column(nullable = false, length = 100)
@@ -51,7 +104,7 @@ public class Booking {
 	@Column(length = 100)
 	private String preferredVenue;
 
-	@FutureOrPresent
+	@FutureOrPresent(groups = Submission.class)
 	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
 	@Column(nullable = false)
 	private LocalDate weddingDate;
@@ -71,9 +124,13 @@ public class Booking {
 
 	private Integer estimatedGuestCount;
 
-	@Size(max = 1000)
-	@Column(length = 1000)
-	private String selectedMenuItems;
+	// Chosen menu items, one booking_menu_items row each; replaced through selectMenus
+	@Valid
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@OneToMany(mappedBy = "booking", cascade = CascadeType.ALL, orphanRemoval = true)
+	@OrderBy("id")
+	@BatchSize(size = 50)
+	private List<BookingMenuItem> menuItems = new ArrayList<>();
 
 	// Menu Plan Reference
 	@Column(name = "menu_plan_id")
@@ -94,14 +151,41 @@ public class Booking {
 	@Column
 	private java.time.LocalDateTime checkOutTime;
 
+	// Counter contribution as last loaded or written, maintained by BookingChangeListener
+	@Transient
+	private transient BookingCounterState counterState;
+
     // Default constructor (required by JPA)
     public Booking() {
 		this.bookingStatus = "Pending"; // Default status
 	}
 
+    /**
+     * Slot key for a venue on a date, as stored in reservation_key
+     */
+    public static String reservationKeyFor(String venue, LocalDate weddingDate) {
+        return venue + "|" + weddingDate;
+    }
+
+    // Recomputed on every write so venue, date and status changes move or release the slot
+    @PrePersist
+    @PreUpdate
+    void assignReservationKey() {
+        if (STATUS_CANCELLED.equalsIgnoreCase(bookingStatus)) {
+            if (reservationKey == null || !reservationKey.startsWith(RELEASED_PREFIX)) {
+                reservationKey = RELEASED_PREFIX + UUID.randomUUID();
+            }
+        } else {
+            reservationKey = reservationKeyFor(venue, weddingDate);
+        }
+    }
+
     // Getters and setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+    public String getReservationKey() { return reservationKey; }
     public String getCustomerName() { return customerName; }
     public void setCustomerName(String customerName) { this.customerName = customerName; }
     public String getBrideName() { return brideName; }
@@ -130,8 +214,30 @@ public class Booking {
     public void setSpecialCateringRequests(String specialCateringRequests) { this.specialCateringRequests = specialCateringRequests; }
     public Integer getEstimatedGuestCount() { return estimatedGuestCount; }
     public void setEstimatedGuestCount(Integer estimatedGuestCount) { this.estimatedGuestCount = estimatedGuestCount; }
-    public String getSelectedMenuItems() { return selectedMenuItems; }
-    public void setSelectedMenuItems(String selectedMenuItems) { this.selectedMenuItems = selectedMenuItems; }
+    public List<BookingMenuItem> getMenuItems() { return menuItems; }
+
+    /**
+     * Replace the chosen menu items; menus that stay selected keep their row and servings per guest
+     */
+    public void selectMenus(Collection<Menu> menus) {
+        Map<Long, Menu> wanted = new LinkedHashMap<>();
+        menus.forEach(menu -> wanted.put(menu.getId(), menu));
+        menuItems.removeIf(item -> !wanted.containsKey(item.getMenuId()));
+        menuItems.forEach(item -> wanted.remove(item.getMenuId()));
+        wanted.values().forEach(menu -> menuItems.add(new BookingMenuItem(this, menu, 1)));
+    }
+
+    public boolean includesMenu(Long menuId) {
+        return menuItems.stream().anyMatch(item -> item.getMenuId().equals(menuId));
+    }
+
+    /**
+     * Names of the chosen menu items joined with ", ", or null when none are chosen
+     */
+    public String getSelectedMenuItems() {
+        return menuItems.isEmpty() ? null
+                : menuItems.stream().map(BookingMenuItem::getMenuName).collect(Collectors.joining(", "));
+    }
     
     public Long getMenuPlanId() { return menuPlanId; }
     public void setMenuPlanId(Long menuPlanId) { this.menuPlanId = menuPlanId; }
@@ -145,4 +251,8 @@ public class Booking {
     public void setCheckInTime(java.time.LocalDateTime checkInTime) { this.checkInTime = checkInTime; }
     public java.time.LocalDateTime getCheckOutTime() { return checkOutTime; }
     public void setCheckOutTime(java.time.LocalDateTime checkOutTime) { this.checkOutTime = checkOutTime; }
+    
+    @JsonIgnore
+    public BookingCounterState getCounterState() { return counterState; }
+    public void setCounterState(BookingCounterState counterState) { this.counterState = counterState; }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package org.example.grandaura.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity representing one incrementally maintained booking counter
+ * Keys look like "bookings", "guests", "venue:Grand Ballroom", "month:JUNE" or "status:Pending"
+ */
+@Entity
+@Table(name = "booking_counters")
+public class BookingCounter {
+
+    @Id
+    @Column(name = "counter_key", length = 200)
+    private String counterKey;
+
+    @Column(name = "counter_value", nullable = false)
+    private long counterValue;
+
+    // Default constructor (required by JPA)
+    public BookingCounter() {
+    }
+
+    public BookingCounter(String counterKey, long counterValue) {
+        this.counterKey = counterKey;
+        this.counterValue = counterValue;
+    }
+
+    public String getCounterKey() { return counterKey; }
+    public void setCounterKey(String counterKey) { this.counterKey = counterKey; }
+    public long getCounterValue() { return counterValue; }
+    public void setCounterValue(long counterValue) { this.counterValue = counterValue; }
+}
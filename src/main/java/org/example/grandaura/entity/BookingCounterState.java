@@ -0,0 +1,23 @@
+package org.example.grandaura.entity;
+
+import java.time.LocalDate;
+import java.time.Month;
+
+/**
+ * What a booking contributes to the booking counters, venue availability and monthly reports, captured when it is loaded or written
+ * Comparing the captured state with the current one yields the delta for an update
+ */
+public record BookingCounterState(String venue, Month month, String status, int guests, boolean specialRequests,
+                                  String reservationKey, LocalDate weddingDate) {
+
+    public static BookingCounterState of(Booking booking) {
+        return new BookingCounterState(
+                booking.getVenue(),
+                booking.getWeddingDate() != null ? booking.getWeddingDate().getMonth() : null,
+                booking.getBookingStatus(),
+                booking.getGuestCount(),
+                booking.getSpecialRequests() != null && !booking.getSpecialRequests().trim().isEmpty(),
+                booking.getReservationKey(),
+                booking.getWeddingDate());
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.grandaura.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.Min;
+import org.example.grandaura.service.BookingMenuItemChangeListener;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Entity representing one menu item chosen for a booking, with the servings per guest to prepare
+ * Indexed by booking for loading a booking's selection and by menu for "which bookings serve this dish";
+ * date-bound catering queries join through the booking's wedding date index.
+ */
+@Entity
+@EntityListeners(BookingMenuItemChangeListener.class)
+@Table(name = "booking_menu_items", indexes = {
+        @Index(name = "idx_booking_menu_items_booking", columnList = "booking_id"),
+        @Index(name = "idx_booking_menu_items_menu", columnList = "menu_id, booking_id")
+})
+public class BookingMenuItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_menu_items_seq")
+    @SequenceGenerator(name = "booking_menu_items_seq", sequenceName = "booking_menu_items_seq", allocationSize = 50)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "booking_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Booking booking;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "menu_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Menu menu;
+
+    // Servings per guest; portions to prepare are this times the booking's estimated (or actual) guest count
+    @Min(1)
+    @Column(nullable = false)
+    private int quantity;
+
+    // Default constructor (required by JPA)
+    public BookingMenuItem() {
+    }
+
+    public BookingMenuItem(Booking booking, Menu menu, int quantity) {
+        this.booking = booking;
+        this.menu = menu;
+        this.quantity = quantity;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Booking getBooking() { return booking; }
+    public void setBooking(Booking booking) { this.booking = booking; }
+    public Menu getMenu() { return menu; }
+    public void setMenu(Menu menu) { this.menu = menu; }
+    public int getQuantity() { return quantity; }
+    public void setQuantity(int quantity) { this.quantity = quantity; }
+
+    // Reading the id does not initialize a lazy menu proxy
+    public Long getMenuId() { return menu != null ? menu.getId() : null; }
+    public String getMenuName() { return menu != null ? menu.getName() : null; }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.example.grandaura.service.AccountChangeListener;
 
 /**
  * Catering Manager entity for managing wedding catering services
@@ -12,10 +13,12 @@ import jakarta.validation.constraints.Size;
  */
 @Entity
 @Table(name = "catering_managers")
+@EntityListeners(AccountChangeListener.class)
 public class CateringManager {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "catering_managers_seq")
+    @SequenceGenerator(name = "catering_managers_seq", sequenceName = "catering_managers_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Manager name is required")
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.example.grandaura.service.AccountChangeListener;
 
 /**
  * Event Coordinator entity for managing wedding events and coordination
@@ -12,10 +13,12 @@ import jakarta.validation.constraints.Size;
  */
 @Entity
 @Table(name = "event_coordinators")
+@EntityListeners(AccountChangeListener.class)
 public class EventCoordinator {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_coordinators_seq")
+    @SequenceGenerator(name = "event_coordinators_seq", sequenceName = "event_coordinators_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Coordinator name is required")
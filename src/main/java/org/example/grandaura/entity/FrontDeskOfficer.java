@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.example.grandaura.service.AccountChangeListener;
 
 /**
  * Entity representing a Front Desk Officer in the system
@@ -11,10 +12,12 @@ import jakarta.validation.constraints.Size;
  */
 @Entity
 @Table(name = "front_desk_officers")
+@EntityListeners(AccountChangeListener.class)
 public class FrontDeskOfficer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "front_desk_officers_seq")
+    @SequenceGenerator(name = "front_desk_officers_seq", sequenceName = "front_desk_officers_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Officer name is required")
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.example.grandaura.service.AccountChangeListener;
 
 /**
  * Hotel Owner entity for managing hotel operations and analytics
@@ -12,10 +13,12 @@ import jakarta.validation.constraints.Size;
  */
 @Entity
 @Table(name = "hotel_owners")
+@EntityListeners(AccountChangeListener.class)
 public class HotelOwner {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hotel_owners_seq")
+    @SequenceGenerator(name = "hotel_owners_seq", sequenceName = "hotel_owners_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Owner name is required")
@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 @Table(name = "menus")
 public class Menu {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menus_seq")
+    @SequenceGenerator(name = "menus_seq", sequenceName = "menus_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
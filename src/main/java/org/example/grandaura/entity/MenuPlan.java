@@ -15,7 +15,8 @@ import java.time.LocalDate;
 public class MenuPlan {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_plans_seq")
+    @SequenceGenerator(name = "menu_plans_seq", sequenceName = "menu_plans_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Plan name is required")
@@ -4,12 +4,15 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.example.grandaura.service.AccountChangeListener;
 
 @Entity
 @Table(name = "system_administrators")
+@EntityListeners(AccountChangeListener.class)
 public class SystemAdministrator {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "system_administrators_seq")
+    @SequenceGenerator(name = "system_administrators_seq", sequenceName = "system_administrators_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Administrator name is required")
@@ -0,0 +1,20 @@
+package org.example.grandaura.repository;
+
+import org.example.grandaura.entity.BookingCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository interface for BookingCounter entity
+ */
+public interface BookingCounterRepository extends JpaRepository<BookingCounter, String> {
+
+    /**
+     * Add a delta to an existing counter in place, returns 0 when the counter does not exist yet
+     */
+    @Modifying
+    @Query("UPDATE BookingCounter c SET c.counterValue = c.counterValue + :delta WHERE c.counterKey = :key")
+    int addToCounter(@Param("key") String key, @Param("delta") long delta);
+}
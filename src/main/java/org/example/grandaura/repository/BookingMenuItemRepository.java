@@ -0,0 +1,49 @@
+package org.example.grandaura.repository;
+
+import org.example.grandaura.dto.MenuDemandRow;
+import org.example.grandaura.dto.MenuItemQuantityRow;
+import org.example.grandaura.entity.Booking;
+import org.example.grandaura.entity.BookingMenuItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface BookingMenuItemRepository extends JpaRepository<BookingMenuItem, Long> {
+
+    /**
+     * Portions per menu item for the non-cancelled bookings between the two dates, largest first
+     * Bookings are narrowed by the wedding date index and items reached through the booking index.
+     */
+    @Query("SELECT m.id AS menuId, m.name AS menuName, COUNT(b) AS bookings, " +
+            "SUM(i.quantity * COALESCE(NULLIF(b.estimatedGuestCount, 0), b.guestCount)) AS portions " +
+            "FROM BookingMenuItem i JOIN i.booking b JOIN i.menu m " +
+            "WHERE b.weddingDate BETWEEN :from AND :to " +
+            "AND (b.bookingStatus IS NULL OR UPPER(b.bookingStatus) <> 'CANCELLED') " +
+            "GROUP BY m.id, m.name ORDER BY portions DESC, m.name")
+    List<MenuDemandRow> findDemandBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Menu and servings per guest of every item of the bookings from the given day on
+     */
+    @Query("SELECT b.id AS bookingId, i.menu.id AS menuId, i.quantity AS quantity " +
+            "FROM BookingMenuItem i JOIN i.booking b WHERE b.weddingDate >= :from")
+    List<MenuItemQuantityRow> findQuantitiesFrom(@Param("from") LocalDate from);
+
+    /**
+     * Menu and servings per guest of each item of one booking, in the order they were chosen
+     */
+    @Query("SELECT i.booking.id AS bookingId, i.menu.id AS menuId, i.quantity AS quantity " +
+            "FROM BookingMenuItem i WHERE i.booking.id = :bookingId ORDER BY i.id")
+    List<MenuItemQuantityRow> findQuantitiesByBookingId(@Param("bookingId") Long bookingId);
+
+    /**
+     * Bookings that include the menu item, by wedding date
+     */
+    @Query("SELECT b FROM BookingMenuItem i JOIN i.booking b WHERE i.menu.id = :menuId ORDER BY b.weddingDate, b.id")
+    List<Booking> findBookingsByMenuId(@Param("menuId") Long menuId);
+}
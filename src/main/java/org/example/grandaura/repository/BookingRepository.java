@@ -1,9 +1,179 @@
 package org.example.grandaura.repository;
 
+import org.example.grandaura.dto.BookingDetailRow;
+import org.example.grandaura.dto.BookingStatsRow;
+import org.example.grandaura.dto.CateringBookingRow;
+import org.example.grandaura.dto.BookingStatusCount;
+import org.example.grandaura.dto.VenueReservationRow;
 import org.example.grandaura.entity.Booking;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Repository interface for Booking entity
+ * Date, venue and status lookups are backed by the indexes declared on {@link Booking}
+ */
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByCustomerEmailOrderByWeddingDateAsc(String customerEmail);
-}
\ No newline at end of file
+
+    /**
+     * Find bookings whose wedding date falls within the given range (inclusive)
+     */
+    List<Booking> findByWeddingDateBetweenOrderByWeddingDateAsc(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Find bookings held on a specific date
+     */
+    List<Booking> findByWeddingDateOrderByIdAsc(LocalDate weddingDate);
+
+    /**
+     * Find bookings on or after the given date
+     */
+    List<Booking> findByWeddingDateGreaterThanEqualOrderByWeddingDateAsc(LocalDate date);
+
+    /**
+     * Find bookings strictly after the given date
+     */
+    List<Booking> findByWeddingDateAfterOrderByWeddingDateAsc(LocalDate date);
+
+    /**
+     * Find bookings for a venue
+     */
+    List<Booking> findByVenueOrderByWeddingDateAsc(String venue);
+
+    /**
+     * Find bookings with a given front desk status
+     */
+    List<Booking> findByBookingStatusOrderByWeddingDateAsc(String bookingStatus);
+
+    /**
+     * Find bookings that carry non-empty special requests
+     */
+    @Query("SELECT b FROM Booking b WHERE b.specialRequests IS NOT NULL AND TRIM(b.specialRequests) <> '' ORDER BY b.weddingDate ASC")
+    List<Booking> findWithSpecialRequests();
+
+    /**
+     * Whether another booking already holds the given venue/date reservation key
+     */
+    boolean existsByReservationKeyAndIdNot(String reservationKey, Long id);
+
+    long countByWeddingDate(LocalDate weddingDate);
+
+    long countByWeddingDateBetween(LocalDate startDate, LocalDate endDate);
+
+    long countByWeddingDateGreaterThanEqual(LocalDate date);
+
+    @Query("SELECT COALESCE(SUM(b.guestCount), 0) FROM Booking b")
+    long sumGuestCount();
+
+    @Query("SELECT COALESCE(SUM(b.guestCount), 0) FROM Booking b WHERE b.weddingDate BETWEEN :startDate AND :endDate")
+    long sumGuestCountByWeddingDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * Booking aggregate grouped by venue and wedding month, used to rebuild the booking counters
+     * Upcoming means a wedding date on or after the given day
+     */
+    @Query("SELECT b.venue AS venue, EXTRACT(MONTH FROM b.weddingDate) AS weddingMonth, " +
+            "COUNT(b) AS bookings, COALESCE(SUM(b.guestCount), 0) AS guests, " +
+            "SUM(CASE WHEN b.weddingDate >= :today THEN 1 ELSE 0 END) AS upcoming, " +
+            "SUM(CASE WHEN b.specialRequests IS NOT NULL AND TRIM(b.specialRequests) <> '' THEN 1 ELSE 0 END) AS specialRequests " +
+            "FROM Booking b GROUP BY b.venue, EXTRACT(MONTH FROM b.weddingDate)")
+    List<BookingStatsRow> aggregateByVenueAndMonth(@Param("today") LocalDate today);
+
+    /**
+     * Booking count per front desk status
+     */
+    @Query("SELECT b.bookingStatus AS status, COUNT(b) AS bookings FROM Booking b GROUP BY b.bookingStatus")
+    List<BookingStatusCount> countByStatus();
+
+    /**
+     * Venue and date of every booking from the given day on that still holds its slot
+     * Rows written before reservation keys existed count unless cancelled
+     */
+    @Query("SELECT b.venue AS venue, b.weddingDate AS weddingDate FROM Booking b WHERE b.weddingDate >= :from " +
+            "AND ((b.reservationKey IS NOT NULL AND b.reservationKey NOT LIKE 'released:%') " +
+            "OR (b.reservationKey IS NULL AND (b.bookingStatus IS NULL OR b.bookingStatus <> 'Cancelled')))")
+    List<VenueReservationRow> findActiveReservations(@Param("from") LocalDate from);
+
+    /**
+     * Catering fields of every non-cancelled booking from the given day on, for the demand forecast
+     * The status is compared case-insensitively, as the forecast's per-booking updates do
+     */
+    @Query("SELECT b.id AS id, b.weddingDate AS weddingDate, b.guestCount AS guestCount, " +
+            "b.estimatedGuestCount AS estimatedGuestCount, b.menuPlanId AS menuPlanId, " +
+            "b.dietaryRequirements AS dietaryRequirements FROM Booking b WHERE b.weddingDate >= :from " +
+            "AND (b.bookingStatus IS NULL OR UPPER(b.bookingStatus) <> 'CANCELLED')")
+    List<CateringBookingRow> findCateringRowsFrom(@Param("from") LocalDate from);
+
+    /**
+     * Customer, date, venue, guests and requests of one booking, for the hotel owner and coordinator pages
+     */
+    @Query("SELECT b.id AS id, b.customerName AS customerName, b.customerEmail AS customerEmail, " +
+            "b.weddingDate AS weddingDate, b.venue AS venue, b.guestCount AS guestCount, " +
+            "b.specialRequests AS specialRequests, b.bookingStatus AS bookingStatus FROM Booking b WHERE b.id = :id")
+    Optional<BookingDetailRow> findSummaryDetail(@Param("id") Long id);
+
+    /**
+     * Couple, venue, guests and catering details of one booking, for the catering manager pages
+     */
+    @Query("SELECT b.id AS id, b.brideName AS brideName, b.groomName AS groomName, b.weddingDate AS weddingDate, " +
+            "b.venue AS venue, b.preferredVenue AS preferredVenue, b.guestCount AS guestCount, " +
+            "b.estimatedGuestCount AS estimatedGuestCount, b.cateringPackage AS cateringPackage, " +
+            "b.dietaryRequirements AS dietaryRequirements, b.specialCateringRequests AS specialCateringRequests " +
+            "FROM Booking b WHERE b.id = :id")
+    Optional<BookingDetailRow> findCateringDetail(@Param("id") Long id);
+
+    /**
+     * Every displayed column of one booking, for the front desk and system administrator pages
+     */
+    @Query("SELECT b.id AS id, b.customerName AS customerName, b.customerEmail AS customerEmail, " +
+            "b.brideName AS brideName, b.groomName AS groomName, b.weddingDate AS weddingDate, b.venue AS venue, " +
+            "b.preferredVenue AS preferredVenue, b.guestCount AS guestCount, " +
+            "b.estimatedGuestCount AS estimatedGuestCount, b.specialRequests AS specialRequests, " +
+            "b.cateringPackage AS cateringPackage, b.dietaryRequirements AS dietaryRequirements, " +
+            "b.specialCateringRequests AS specialCateringRequests, b.bookingStatus AS bookingStatus, " +
+            "b.frontDeskNotes AS frontDeskNotes, b.checkInTime AS checkInTime, b.checkOutTime AS checkOutTime " +
+            "FROM Booking b WHERE b.id = :id")
+    Optional<BookingDetailRow> findFullDetail(@Param("id") Long id);
+
+    /**
+     * Most recently created bookings
+     */
+    List<Booking> findTop10ByOrderByIdDesc();
+
+    /**
+     * Keyset page ordered by (weddingDate, id), starting strictly after the given cursor
+     * A null afterDate selects the first page; null filters are ignored
+     */
+    @Query("SELECT b FROM Booking b WHERE (:venue IS NULL OR b.venue = :venue) " +
+            "AND (:status IS NULL OR b.bookingStatus = :status) " +
+            "AND (:startDate IS NULL OR b.weddingDate >= :startDate) " +
+            "AND (:endDate IS NULL OR b.weddingDate <= :endDate) " +
+            "AND (:afterDate IS NULL OR b.weddingDate > :afterDate OR (b.weddingDate = :afterDate AND b.id > :afterId)) " +
+            "ORDER BY b.weddingDate ASC, b.id ASC")
+    List<Booking> findPage(@Param("venue") String venue,
+                           @Param("status") String status,
+                           @Param("startDate") LocalDate startDate,
+                           @Param("endDate") LocalDate endDate,
+                           @Param("afterDate") LocalDate afterDate,
+                           @Param("afterId") Long afterId,
+                           Limit limit);
+
+    /**
+     * Total matching a page filter, used only when a listing asks for it
+     */
+    @Query("SELECT COUNT(b) FROM Booking b WHERE (:venue IS NULL OR b.venue = :venue) " +
+            "AND (:status IS NULL OR b.bookingStatus = :status) " +
+            "AND (:startDate IS NULL OR b.weddingDate >= :startDate) " +
+            "AND (:endDate IS NULL OR b.weddingDate <= :endDate)")
+    long countPage(@Param("venue") String venue,
+                   @Param("status") String status,
+                   @Param("startDate") LocalDate startDate,
+                   @Param("endDate") LocalDate endDate);
+}
@@ -26,14 +26,6 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     // Find menus by cuisine and availability
     List<Menu> findByCuisineAndIsAvailableTrue(String cuisine);
     
-    // Search menus by name (case insensitive)
-    @Query("SELECT m FROM Menu m WHERE LOWER(m.name) LIKE LOWER(CONCAT('%', :name, '%'))")
-    List<Menu> findByNameContainingIgnoreCase(@Param("name") String name);
-    
-    // Find menus by dietary info
-    @Query("SELECT m FROM Menu m WHERE m.dietaryInfo LIKE %:dietaryInfo%")
-    List<Menu> findByDietaryInfoContaining(@Param("dietaryInfo") String dietaryInfo);
-    
     // Find menus by price range
     @Query("SELECT m FROM Menu m WHERE m.price BETWEEN :minPrice AND :maxPrice")
     List<Menu> findByPriceBetween(@Param("minPrice") java.math.BigDecimal minPrice, 
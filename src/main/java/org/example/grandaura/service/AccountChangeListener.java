@@ -0,0 +1,31 @@
+package org.example.grandaura.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener on every account table that clears the authentication cache on any write
+ * Account writes are rare admin and profile actions, so clearing everything is cheaper than
+ * tracking which cached email (old or new) a change affects
+ */
+@Component
+public class AccountChangeListener {
+
+    private final ObjectProvider<UserDetailsCache> userDetailsCache;
+
+    @Autowired
+    public AccountChangeListener(ObjectProvider<UserDetailsCache> userDetailsCache) {
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onAccountChange(Object account) {
+        userDetailsCache.ifAvailable(UserDetailsCache::evictAll);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.grandaura.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Single authentication directory for every account type
+ * Resolves an email to its role table with one UNION ALL statement; every branch is a seek on the
+ * unique email index of its table, so a login costs one round trip whatever the number of roles.
+ * When an email exists in more than one table the lowest priority wins, matching the order in
+ * which the per-role providers used to be consulted.
+ */
+@Service
+public class AccountDirectoryService implements UserDetailsService {
+
+    private static final String ACCOUNT_DIRECTORY =
+        "SELECT 1 AS priority, 'USER' AS role, email, password_hash, enabled FROM users WHERE email = ? " +
+        "UNION ALL SELECT 2, 'HOTEL_OWNER', email, password_hash, enabled FROM hotel_owners WHERE email = ? " +
+        "UNION ALL SELECT 3, 'EVENT_COORDINATOR', email, password_hash, enabled FROM event_coordinators WHERE email = ? " +
+        "UNION ALL SELECT 4, 'SYSTEM_ADMIN', email, password_hash, enabled FROM system_administrators WHERE email = ? " +
+        "UNION ALL SELECT 5, 'CATERING_MANAGER', email, password_hash, enabled FROM catering_managers WHERE email = ? " +
+        "UNION ALL SELECT 6, 'FRONT_DESK', email, password_hash, enabled FROM front_desk_officers WHERE email = ? " +
+        "ORDER BY priority";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public AccountDirectoryService(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        List<UserDetails> accounts = jdbcTemplate.query(ACCOUNT_DIRECTORY,
+                (rs, rowNum) -> {
+                    // Front desk officers store enabled as a nullable flag; null has always meant enabled
+                    Object enabled = rs.getObject("enabled");
+                    return User.withUsername(rs.getString("email"))
+                            .password(rs.getString("password_hash"))
+                            .roles(rs.getString("role"))
+                            .disabled(enabled != null && !rs.getBoolean("enabled"))
+                            .build();
+                },
+                username, username, username, username, username, username);
+
+        if (accounts.isEmpty()) {
+            throw new UsernameNotFoundException("Account not found");
+        }
+        return accounts.get(0);
+    }
+}
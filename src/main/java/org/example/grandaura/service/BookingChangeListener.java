@@ -0,0 +1,97 @@
+package org.example.grandaura.service;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.grandaura.entity.Booking;
+import org.example.grandaura.entity.BookingCounterState;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns every Booking insert, update and delete into a delta for the
+ * booking counters, the venue availability calendars, the cached monthly reports and the catering forecast,
+ * and evicts the booking's cached detail views
+ * The services are resolved lazily because Hibernate creates listeners while the
+ * EntityManagerFactory that their repositories depend on is still being built
+ */
+@Component
+public class BookingChangeListener {
+
+    private final ObjectProvider<BookingCounterService> bookingCounterService;
+    private final ObjectProvider<VenueAvailabilityService> venueAvailabilityService;
+    private final ObjectProvider<MonthlyReportService> monthlyReportService;
+    private final ObjectProvider<CateringForecastService> cateringForecastService;
+    private final ObjectProvider<BookingDetailService> bookingDetailService;
+
+    @Autowired
+    public BookingChangeListener(ObjectProvider<BookingCounterService> bookingCounterService,
+                                 ObjectProvider<VenueAvailabilityService> venueAvailabilityService,
+                                 ObjectProvider<MonthlyReportService> monthlyReportService,
+                                 ObjectProvider<CateringForecastService> cateringForecastService,
+                                 ObjectProvider<BookingDetailService> bookingDetailService) {
+        this.bookingCounterService = bookingCounterService;
+        this.venueAvailabilityService = venueAvailabilityService;
+        this.monthlyReportService = monthlyReportService;
+        this.cateringForecastService = cateringForecastService;
+        this.bookingDetailService = bookingDetailService;
+    }
+
+    @PostLoad
+    public void captureLoaded(Booking booking) {
+        booking.setCounterState(BookingCounterState.of(booking));
+    }
+
+    @PostPersist
+    public void onInsert(Booking booking) {
+        BookingCounterState current = BookingCounterState.of(booking);
+        publish(null, current);
+        booking.setCounterState(current);
+        if (!BulkWriteService.inProgress()) {
+            cateringForecastService.getObject().record(booking);
+        }
+    }
+
+    @PostUpdate
+    public void onUpdate(Booking booking) {
+        BookingCounterState current = BookingCounterState.of(booking);
+        // Without a captured previous state the delta is unknown, a rebuild repairs any drift
+        if (booking.getCounterState() != null) {
+            publish(booking.getCounterState(), current);
+        }
+        booking.setCounterState(current);
+        if (!BulkWriteService.inProgress()) {
+            cateringForecastService.getObject().record(booking);
+        }
+        bookingDetailService.getObject().evict(booking.getId());
+    }
+
+    @PostRemove
+    public void onDelete(Booking booking) {
+        BookingCounterState previous = booking.getCounterState() != null
+                ? booking.getCounterState()
+                : BookingCounterState.of(booking);
+        publish(previous, null);
+        booking.setCounterState(null);
+        if (!BulkWriteService.inProgress()) {
+            cateringForecastService.getObject().remove(booking.getId());
+        }
+        bookingDetailService.getObject().evict(booking.getId());
+    }
+
+    private void publish(BookingCounterState previous, BookingCounterState current) {
+        // Bulk writes rebuild the derived state once instead of applying a delta per row
+        if (BulkWriteService.inProgress()) {
+            return;
+        }
+        bookingCounterService.getObject().record(previous, current);
+        venueAvailabilityService.getObject().record(
+                previous != null ? previous.reservationKey() : null,
+                current != null ? current.reservationKey() : null);
+        monthlyReportService.getObject().record(
+                previous != null ? previous.weddingDate() : null,
+                current != null ? current.weddingDate() : null);
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.grandaura.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Removes stale bookings (created before the catering integration, so without any wedding or catering details)
+ * The delete is set-based and walks the primary key in bounded ranges, one short transaction per range,
+ * so row locks are only ever held on one chunk instead of the whole booking table. A dry run counts the
+ * same ranges without deleting. The deletes bypass the booking listener, so counters, availability
+ * calendars, the catering forecast, cached reports and cached booking details are rebuilt or dropped
+ * afterwards.
+ */
+@Service
+public class BookingCleanupService {
+
+    public static final int DEFAULT_CHUNK_SIZE = 5_000;
+    private static final int PROGRESS_EVERY_CHUNKS = 20;
+
+    // Same rule as the former cleanup_old_bookings_advanced.sql script
+    private static final String STALE_BOOKING = "(bride_name IS NULL OR bride_name = '') " +
+        "AND (groom_name IS NULL OR groom_name = '') " +
+        "AND (preferred_venue IS NULL OR preferred_venue = '') " +
+        "AND (catering_package IS NULL OR catering_package = '') " +
+        "AND (dietary_requirements IS NULL OR dietary_requirements = '') " +
+        "AND (special_catering_requests IS NULL OR special_catering_requests = '') " +
+        "AND (estimated_guest_count IS NULL OR estimated_guest_count = 0)";
+    private static final String RANGE = "id >= ? AND id < ? AND ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+    private final BookingCounterService bookingCounterService;
+    private final VenueAvailabilityService venueAvailabilityService;
+    private final CateringForecastService cateringForecastService;
+    private final MonthlyReportService monthlyReportService;
+    private final BookingDetailService bookingDetailService;
+
+    @Autowired
+    public BookingCleanupService(DataSource dataSource,
+                                 PlatformTransactionManager transactionManager,
+                                 BookingCounterService bookingCounterService,
+                                 VenueAvailabilityService venueAvailabilityService,
+                                 CateringForecastService cateringForecastService,
+                                 MonthlyReportService monthlyReportService,
+                                 BookingDetailService bookingDetailService) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.bookingCounterService = bookingCounterService;
+        this.venueAvailabilityService = venueAvailabilityService;
+        this.cateringForecastService = cateringForecastService;
+        this.monthlyReportService = monthlyReportService;
+        this.bookingDetailService = bookingDetailService;
+    }
+
+    /**
+     * Delete stale bookings chunk by chunk, or only count them when dryRun is set
+     * Returns matched (or deleted) rows, chunks processed, the id range scanned and the elapsed time
+     */
+    public Map<String, Object> cleanupStaleBookings(int chunkSize, boolean dryRun) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        long started = System.nanoTime();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("dryRun", dryRun);
+        result.put("chunkSize", chunkSize);
+
+        Map<String, Object> bounds = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM booking");
+        Number minId = (Number) bounds.get("min_id");
+        Number maxId = (Number) bounds.get("max_id");
+        long affected = 0;
+        long chunks = 0;
+        if (minId != null && maxId != null) {
+            long first = minId.longValue();
+            long last = maxId.longValue();
+            long totalChunks = (last - first) / chunkSize + 1;
+            System.out.println((dryRun ? "🔎 Counting" : "🧹 Deleting") + " stale bookings in ids " + first + "-" + last
+                + " (" + totalChunks + " chunks of " + chunkSize + ")");
+            for (long from = first; from <= last; from += chunkSize) {
+                long to = from + chunkSize;
+                affected += dryRun ? countRange(from, to) : deleteRange(from, to);
+                chunks++;
+                if (chunks % PROGRESS_EVERY_CHUNKS == 0 || to > last) {
+                    System.out.printf("  - %d/%d chunks, %d stale bookings %s%n", chunks, totalChunks, affected,
+                        dryRun ? "found" : "deleted");
+                }
+            }
+            result.put("firstId", first);
+            result.put("lastId", last);
+        }
+
+        if (!dryRun && affected > 0) {
+            bookingCounterService.rebuild();
+            venueAvailabilityService.rebuild();
+            cateringForecastService.rebuild();
+            monthlyReportService.invalidateAll();
+            bookingDetailService.evictAll();
+        }
+        result.put(dryRun ? "matched" : "deleted", affected);
+        result.put("chunks", chunks);
+        result.put("seconds", (System.nanoTime() - started) / 1_000_000_000.0);
+        return result;
+    }
+
+    private long countRange(long from, long to) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM booking WHERE " + RANGE + STALE_BOOKING,
+            Long.class, from, to);
+        return count != null ? count : 0;
+    }
+
+    private long deleteRange(long from, long to) {
+        Integer deleted = chunkTransaction.execute(status ->
+            jdbcTemplate.update("DELETE FROM booking WHERE " + RANGE + STALE_BOOKING, from, to));
+        return deleted != null ? deleted : 0;
+    }
+}
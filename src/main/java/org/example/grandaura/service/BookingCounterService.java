@@ -0,0 +1,270 @@
+package org.example.grandaura.service;
+
+import org.example.grandaura.dto.BookingStatsRow;
+import org.example.grandaura.dto.BookingStatsSnapshot;
+import org.example.grandaura.dto.BookingStatusCount;
+import org.example.grandaura.entity.BookingCounter;
+import org.example.grandaura.entity.BookingCounterState;
+import org.example.grandaura.repository.BookingCounterRepository;
+import org.example.grandaura.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service maintaining booking totals incrementally
+ * Each booking write is turned into a delta by {@link BookingChangeListener}; deltas are applied
+ * after the writing transaction commits, to the booking_counters table and to an in-memory view
+ * that dashboards read without touching the bookings table
+ */
+@Service
+public class BookingCounterService {
+
+    public static final String TOTAL_BOOKINGS = "bookings";
+    public static final String TOTAL_GUESTS = "guests";
+    public static final String SPECIAL_REQUESTS = "special-requests";
+    public static final String VENUE_PREFIX = "venue:";
+    public static final String MONTH_PREFIX = "month:";
+    public static final String STATUS_PREFIX = "status:";
+
+    private final BookingCounterRepository bookingCounterRepository;
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate counterTransaction;
+    private final Map<String, Long> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BookingCounterService(BookingCounterRepository bookingCounterRepository,
+                                 BookingRepository bookingRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.bookingCounterRepository = bookingCounterRepository;
+        this.bookingRepository = bookingRepository;
+        this.counterTransaction = new TransactionTemplate(transactionManager);
+        this.counterTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Load the in-memory view at startup, rebuilding the table the first time it is empty
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCounters() {
+        List<BookingCounter> stored = bookingCounterRepository.findAll();
+        if (stored.isEmpty()) {
+            rebuild();
+            return;
+        }
+        Map<String, Long> loaded = new HashMap<>();
+        stored.forEach(counter -> loaded.put(counter.getCounterKey(), counter.getCounterValue()));
+        replaceView(loaded);
+    }
+
+    /**
+     * Record the change from a booking's previous to its current contribution
+     * A null previous state is an insert, a null current state is a delete
+     */
+    public void record(BookingCounterState previous, BookingCounterState current) {
+        Map<String, Long> delta = new HashMap<>();
+        addContribution(delta, previous, -1);
+        addContribution(delta, current, 1);
+        delta.values().removeIf(value -> value == 0L);
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(delta);
+            return;
+        }
+
+        // Accumulate per transaction so rolled back writes never reach the counters
+        PendingDelta pending = (PendingDelta) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDelta();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.merge(delta);
+    }
+
+    /**
+     * Recompute every counter from the bookings table, replacing the stored and in-memory values
+     */
+    public Map<String, Long> rebuild() {
+        Map<String, Long> rebuilt = new HashMap<>();
+        for (BookingStatsRow row : bookingRepository.aggregateByVenueAndMonth(LocalDate.now())) {
+            long bookings = row.getBookings() != null ? row.getBookings() : 0L;
+            rebuilt.merge(TOTAL_BOOKINGS, bookings, Long::sum);
+            rebuilt.merge(TOTAL_GUESTS, row.getGuests() != null ? row.getGuests() : 0L, Long::sum);
+            rebuilt.merge(SPECIAL_REQUESTS, row.getSpecialRequests() != null ? row.getSpecialRequests() : 0L, Long::sum);
+            if (row.getVenue() != null) {
+                rebuilt.merge(VENUE_PREFIX + row.getVenue(), bookings, Long::sum);
+            }
+            if (row.getWeddingMonth() != null) {
+                rebuilt.merge(MONTH_PREFIX + Month.of(row.getWeddingMonth()), bookings, Long::sum);
+            }
+        }
+        for (BookingStatusCount statusCount : bookingRepository.countByStatus()) {
+            if (statusCount.getStatus() != null) {
+                rebuilt.put(STATUS_PREFIX + statusCount.getStatus(), statusCount.getBookings());
+            }
+        }
+
+        counterTransaction.executeWithoutResult(status -> {
+            bookingCounterRepository.deleteAllInBatch();
+            bookingCounterRepository.saveAll(rebuilt.entrySet().stream()
+                    .map(entry -> new BookingCounter(entry.getKey(), entry.getValue()))
+                    .toList());
+        });
+        replaceView(rebuilt);
+        return Map.copyOf(rebuilt);
+    }
+
+    /**
+     * Get total number of bookings
+     */
+    public long getTotalBookings() {
+        return counters.getOrDefault(TOTAL_BOOKINGS, 0L);
+    }
+
+    /**
+     * Get total guest count across all bookings
+     */
+    public long getTotalGuests() {
+        return counters.getOrDefault(TOTAL_GUESTS, 0L);
+    }
+
+    /**
+     * Get number of bookings carrying special requests
+     */
+    public long getBookingsWithSpecialRequests() {
+        return counters.getOrDefault(SPECIAL_REQUESTS, 0L);
+    }
+
+    /**
+     * Get booking counts per venue
+     */
+    public Map<String, Long> getVenueCounts() {
+        return countersWithPrefix(VENUE_PREFIX);
+    }
+
+    /**
+     * Get booking counts per wedding month, keyed by month name
+     */
+    public Map<String, Long> getMonthCounts() {
+        return countersWithPrefix(MONTH_PREFIX);
+    }
+
+    /**
+     * Get booking counts per front desk status
+     */
+    public Map<String, Long> getStatusCounts() {
+        return countersWithPrefix(STATUS_PREFIX);
+    }
+
+    /**
+     * Statistics snapshot from the counters; only the date dependent upcoming count is supplied by the caller
+     */
+    public BookingStatsSnapshot getStatsSnapshot(long upcomingBookings) {
+        return BookingStatsSnapshot.of(getTotalBookings(), getTotalGuests(), upcomingBookings,
+                getBookingsWithSpecialRequests(), getVenueCounts(), getMonthCounts());
+    }
+
+    private Map<String, Long> countersWithPrefix(String prefix) {
+        Map<String, Long> result = new HashMap<>();
+        counters.forEach((key, value) -> {
+            if (key.startsWith(prefix) && value > 0) {
+                result.put(key.substring(prefix.length()), value);
+            }
+        });
+        return result;
+    }
+
+    private void replaceView(Map<String, Long> values) {
+        counters.clear();
+        counters.putAll(values);
+    }
+
+    private void apply(Map<String, Long> delta) {
+        delta.forEach((key, value) -> counters.merge(key, value, Long::sum));
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            try {
+                counterTransaction.executeWithoutResult(status -> persist(delta));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // Another writer created the same counter first, the in-place update succeeds on retry
+                if (attempt == 2) {
+                    reportPersistFailure(e);
+                }
+            } catch (RuntimeException e) {
+                reportPersistFailure(e);
+                return;
+            }
+        }
+    }
+
+    private void reportPersistFailure(RuntimeException e) {
+        System.out.println("⚠️ Failed to persist booking counters, run rebuild-booking-counters to repair: " + e.getMessage());
+    }
+
+    private void persist(Map<String, Long> delta) {
+        delta.forEach((key, value) -> {
+            if (bookingCounterRepository.addToCounter(key, value) == 0) {
+                bookingCounterRepository.saveAndFlush(new BookingCounter(key, value));
+            }
+        });
+    }
+
+    private static void addContribution(Map<String, Long> delta, BookingCounterState state, long sign) {
+        if (state == null) {
+            return;
+        }
+        delta.merge(TOTAL_BOOKINGS, sign, Long::sum);
+        delta.merge(TOTAL_GUESTS, sign * state.guests(), Long::sum);
+        if (state.specialRequests()) {
+            delta.merge(SPECIAL_REQUESTS, sign, Long::sum);
+        }
+        if (state.venue() != null) {
+            delta.merge(VENUE_PREFIX + state.venue(), sign, Long::sum);
+        }
+        if (state.month() != null) {
+            delta.merge(MONTH_PREFIX + state.month(), sign, Long::sum);
+        }
+        if (state.status() != null) {
+            delta.merge(STATUS_PREFIX + state.status(), sign, Long::sum);
+        }
+    }
+
+    /**
+     * Deltas accumulated by one transaction, applied only if it commits
+     */
+    private class PendingDelta implements TransactionSynchronization {
+
+        private final Map<String, Long> delta = new HashMap<>();
+
+        void merge(Map<String, Long> more) {
+            more.forEach((key, value) -> delta.merge(key, value, Long::sum));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BookingCounterService.this);
+            delta.values().removeIf(value -> value == 0L);
+            if (status == STATUS_COMMITTED && !delta.isEmpty()) {
+                apply(delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.grandaura.service;
+
+import org.example.grandaura.dto.BookingDetailRow;
+import org.example.grandaura.dto.BookingDetailView;
+import org.example.grandaura.dto.MenuCatalog;
+import org.example.grandaura.dto.MenuItemQuantityRow;
+import org.example.grandaura.entity.Menu;
+import org.example.grandaura.repository.BookingMenuItemRepository;
+import org.example.grandaura.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Booking detail pages of every role, read by primary key into a {@link BookingDetailView}
+ * Each scope selects only its own columns, and menu item names come from the in-memory menu catalog so
+ * the items are read from their booking index without joining the menus. Views are cached for a short
+ * time, the least recently used ones dropped when the cache is full. {@link BookingChangeListener} and
+ * {@link BookingMenuItemChangeListener} evict a booking whenever it or its items are written, so the TTL
+ * only bounds how long writes that bypass the listeners can go unseen.
+ */
+@Service
+public class BookingDetailService {
+
+    static final int MAX_ENTRIES = 2000;
+    static final long TTL_MILLIS = 30 * 1000L;
+
+    private final BookingRepository bookingRepository;
+    private final BookingMenuItemRepository bookingMenuItemRepository;
+    private final MenuCatalogService menuCatalogService;
+
+    private final Map<CacheKey, CachedView> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedView> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    @Autowired
+    public BookingDetailService(BookingRepository bookingRepository,
+                                BookingMenuItemRepository bookingMenuItemRepository,
+                                MenuCatalogService menuCatalogService) {
+        this.bookingRepository = bookingRepository;
+        this.bookingMenuItemRepository = bookingMenuItemRepository;
+        this.menuCatalogService = menuCatalogService;
+    }
+
+    /**
+     * Get the detail view of a booking with the columns of the given scope; empty when there is no such booking
+     */
+    public Optional<BookingDetailView> getBookingDetail(Long id, BookingDetailView.Scope scope) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        CacheKey key = new CacheKey(id, scope);
+        synchronized (entries) {
+            CachedView cached = entries.get(key);
+            if (cached != null && cached.expiresAt() >= System.currentTimeMillis()) {
+                return Optional.of(cached.view());
+            }
+            entries.remove(key);
+        }
+
+        Optional<BookingDetailView> view = load(id, scope);
+        // Misses are not cached, a booking created a moment later must show up at once
+        view.ifPresent(v -> {
+            synchronized (entries) {
+                entries.put(key, new CachedView(v, System.currentTimeMillis() + TTL_MILLIS));
+            }
+        });
+        return view;
+    }
+
+    /**
+     * Drop the cached views of one booking now and again once the surrounding transaction commits, so a
+     * page read racing the write cannot re-cache the old row
+     */
+    public void evict(Long id) {
+        if (id == null) {
+            return;
+        }
+        remove(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Drop every cached view, for bulk writes that bypass the entity listeners
+     */
+    public void evictAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Optional<BookingDetailView> load(Long id, BookingDetailView.Scope scope) {
+        Optional<BookingDetailRow> row = switch (scope) {
+            case SUMMARY -> bookingRepository.findSummaryDetail(id);
+            case CATERING -> bookingRepository.findCateringDetail(id);
+            case FULL -> bookingRepository.findFullDetail(id);
+        };
+        if (row.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Long> menuIds = new ArrayList<>();
+        List<String> menuNames = new ArrayList<>();
+        if (scope.isWithMenuItems()) {
+            MenuCatalog catalog = menuCatalogService.getCatalog();
+            for (MenuItemQuantityRow item : bookingMenuItemRepository.findQuantitiesByBookingId(id)) {
+                menuIds.add(item.getMenuId());
+                Menu menu = catalog.getMenu(item.getMenuId());
+                if (menu != null) {
+                    menuNames.add(menu.getName());
+                }
+            }
+        }
+        return Optional.of(new BookingDetailView(scope, row.get(), menuIds, menuNames));
+    }
+
+    private void remove(Long id) {
+        synchronized (entries) {
+            for (BookingDetailView.Scope scope : BookingDetailView.Scope.values()) {
+                entries.remove(new CacheKey(id, scope));
+            }
+        }
+    }
+
+    private record CacheKey(Long bookingId, BookingDetailView.Scope scope) {}
+
+    private record CachedView(BookingDetailView view, long expiresAt) {}
+}
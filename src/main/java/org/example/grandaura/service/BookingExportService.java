@@ -0,0 +1,242 @@
+package org.example.grandaura.service;
+
+import org.example.grandaura.dto.BookingExportFilter;
+import org.example.grandaura.util.CsvWriter;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Streams bookings out of the database for CSV and Excel exports
+ * Rows are read through a forward-only, read-only JDBC cursor and handed to the caller one at a time,
+ * so memory use does not grow with the number of bookings exported.
+ */
+@Service
+public class BookingExportService {
+
+    /** Rows fetched per round trip; large enough to amortise latency, small enough to keep the driver buffer flat */
+    static final int FETCH_SIZE = 500;
+
+    /** Flush the response every this many rows so the client starts receiving chunks immediately */
+    static final int FLUSH_EVERY = 1000;
+
+    static final String[] EXPORT_HEADER = {
+        "ID", "Customer Name", "Email", "Venue", "Wedding Date", "Guest Count", "Status", "Special Requests"
+    };
+
+    /** Rows kept in memory per sheet; older rows are flushed to a compressed temp file */
+    static final int XLSX_WINDOW_SIZE = 100;
+
+    /** Data rows per bookings sheet (the sheet limit minus the header row) */
+    static final int XLSX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows() - 1;
+
+    private static final DateTimeFormatter MONTH_LABEL = DateTimeFormatter.ofPattern("MMMM yyyy");
+
+    private static final String SELECT_BOOKINGS =
+        "SELECT id, customer_name, customer_email, venue, wedding_date, guest_count, booking_status, special_requests " +
+        "FROM booking";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public BookingExportService(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    /**
+     * Write the filtered bookings as RFC 4180 CSV, returning the number of data rows written
+     */
+    public long writeCsv(BookingExportFilter filter, Writer writer) throws IOException {
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRow((Object[]) EXPORT_HEADER);
+
+        long[] rows = {0};
+        try {
+            streamBookings(filter, rs -> {
+                try {
+                    csv.writeRow(
+                        rs.getLong("id"),
+                        rs.getString("customer_name"),
+                        rs.getString("customer_email"),
+                        rs.getString("venue"),
+                        rs.getDate("wedding_date"),
+                        rs.getInt("guest_count"),
+                        rs.getString("booking_status"),
+                        rs.getString("special_requests"));
+                    if (++rows[0] % FLUSH_EVERY == 0) {
+                        csv.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        csv.flush();
+        return rows[0];
+    }
+
+    /**
+     * Write the filtered bookings as an XLSX workbook, returning the number of booking rows written
+     * Booking rows go through a streaming workbook that only keeps a small window of rows in memory;
+     * the venue utilization and monthly sheets are aggregated on the fly, so they always match the filter.
+     */
+    public long writeXlsx(BookingExportFilter filter, OutputStream out) throws IOException {
+        // Closing the workbook also deletes its temp files
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_WINDOW_SIZE)) {
+            workbook.setCompressTempFiles(true);
+            CellStyle headerStyle = workbook.createCellStyle();
+            Font bold = workbook.createFont();
+            bold.setBold(true);
+            headerStyle.setFont(bold);
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+            CellStyle percentStyle = workbook.createCellStyle();
+            percentStyle.setDataFormat(workbook.createDataFormat().getFormat("0.0%"));
+
+            // Per-venue and per-month [bookings, guests]; both maps stay tiny whatever the row count
+            Map<String, long[]> venueTotals = new TreeMap<>();
+            Map<YearMonth, long[]> monthTotals = new TreeMap<>();
+            long[] rows = {0};
+            SXSSFSheet[] sheet = {newBookingsSheet(workbook, headerStyle, 1)};
+
+            streamBookings(filter, rs -> {
+                int rowIndex = (int) (rows[0] % XLSX_ROWS_PER_SHEET) + 1;
+                if (rowIndex == 1 && rows[0] > 0) {
+                    sheet[0] = newBookingsSheet(workbook, headerStyle, (int) (rows[0] / XLSX_ROWS_PER_SHEET) + 1);
+                }
+                String venue = rs.getString("venue");
+                LocalDate weddingDate = rs.getObject("wedding_date", LocalDate.class);
+                int guests = rs.getInt("guest_count");
+
+                Row row = sheet[0].createRow(rowIndex);
+                row.createCell(0).setCellValue(rs.getLong("id"));
+                row.createCell(1).setCellValue(rs.getString("customer_name"));
+                row.createCell(2).setCellValue(rs.getString("customer_email"));
+                row.createCell(3).setCellValue(venue);
+                row.createCell(4).setCellValue(weddingDate);
+                row.getCell(4).setCellStyle(dateStyle);
+                row.createCell(5).setCellValue(guests);
+                row.createCell(6).setCellValue(rs.getString("booking_status"));
+                row.createCell(7).setCellValue(rs.getString("special_requests"));
+                rows[0]++;
+
+                long[] venueTotal = venueTotals.computeIfAbsent(venue != null ? venue : "Unassigned", v -> new long[2]);
+                venueTotal[0]++;
+                venueTotal[1] += guests;
+                if (weddingDate != null) {
+                    long[] monthTotal = monthTotals.computeIfAbsent(YearMonth.from(weddingDate), m -> new long[2]);
+                    monthTotal[0]++;
+                    monthTotal[1] += guests;
+                }
+            });
+
+            Sheet venues = workbook.createSheet("Venue Utilization");
+            writeHeader(venues, headerStyle, "Venue", "Bookings", "Guests", "Share of Bookings");
+            int venueRow = 1;
+            for (Map.Entry<String, long[]> entry : venueTotals.entrySet()) {
+                Row row = venues.createRow(venueRow++);
+                row.createCell(0).setCellValue(entry.getKey());
+                row.createCell(1).setCellValue(entry.getValue()[0]);
+                row.createCell(2).setCellValue(entry.getValue()[1]);
+                row.createCell(3).setCellValue((double) entry.getValue()[0] / rows[0]);
+                row.getCell(3).setCellStyle(percentStyle);
+            }
+
+            Sheet months = workbook.createSheet("Monthly Stats");
+            writeHeader(months, headerStyle, "Month", "Bookings", "Guests", "Average Guests");
+            int monthRow = 1;
+            for (Map.Entry<YearMonth, long[]> entry : monthTotals.entrySet()) {
+                Row row = months.createRow(monthRow++);
+                row.createCell(0).setCellValue(entry.getKey().format(MONTH_LABEL));
+                row.createCell(1).setCellValue(entry.getValue()[0]);
+                row.createCell(2).setCellValue(entry.getValue()[1]);
+                row.createCell(3).setCellValue((double) entry.getValue()[1] / entry.getValue()[0]);
+            }
+
+            workbook.write(out);
+            out.flush();
+            return rows[0];
+        }
+    }
+
+    private SXSSFSheet newBookingsSheet(SXSSFWorkbook workbook, CellStyle headerStyle, int number) {
+        SXSSFSheet sheet = workbook.createSheet(number == 1 ? "Bookings" : "Bookings (" + number + ")");
+        writeHeader(sheet, headerStyle, EXPORT_HEADER);
+        return sheet;
+    }
+
+    private void writeHeader(Sheet sheet, CellStyle style, String... titles) {
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < titles.length; i++) {
+            header.createCell(i).setCellValue(titles[i]);
+            header.getCell(i).setCellStyle(style);
+        }
+    }
+
+    /**
+     * Run the filtered booking query and pass each row to the handler as it arrives from the cursor
+     */
+    public void streamBookings(BookingExportFilter filter, RowCallbackHandler handler) {
+        BookingExportFilter criteria = filter != null ? filter : new BookingExportFilter();
+        StringBuilder sql = new StringBuilder(SELECT_BOOKINGS);
+        List<Object> params = new ArrayList<>();
+
+        List<String> conditions = new ArrayList<>();
+        if (criteria.getStartDate() != null) {
+            conditions.add("wedding_date >= ?");
+            params.add(java.sql.Date.valueOf(criteria.getStartDate()));
+        }
+        if (criteria.getEndDate() != null) {
+            conditions.add("wedding_date <= ?");
+            params.add(java.sql.Date.valueOf(criteria.getEndDate()));
+        }
+        if (criteria.getVenue() != null) {
+            conditions.add("venue = ?");
+            params.add(criteria.getVenue());
+        }
+        if (criteria.getStatus() != null) {
+            conditions.add("booking_status = ?");
+            params.add(criteria.getStatus());
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY wedding_date, id");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        }, handler);
+    }
+}
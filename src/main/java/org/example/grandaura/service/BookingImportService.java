@@ -0,0 +1,407 @@
+package org.example.grandaura.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.example.grandaura.dto.BookingImportReport;
+import org.example.grandaura.dto.MenuCatalog;
+import org.example.grandaura.entity.Booking;
+import org.example.grandaura.entity.Menu;
+import org.example.grandaura.util.CsvReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports bookings in bulk from CSV or NDJSON uploads (partner venues, the old booking system)
+ * The input is parsed as a stream, one row at a time. Every row is checked against the Booking bean
+ * constraints and the one-booking-per-venue-and-date rule, and valid rows are written through the bulk
+ * write path in chunks, each in its own transaction. Only the current chunk and the first rejected
+ * rows are held in memory, so files of hundreds of thousands of rows import in one request.
+ * Menu items are given by name (the legacy comma-separated selectedMenuItems) or, in NDJSON exported
+ * from the API, as menuItems with menu ids and servings per guest; both must name menus in the catalog.
+ */
+@Service
+public class BookingImportService {
+
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * Pick the format from a request content type such as text/csv or application/x-ndjson
+         */
+        public static Format fromContentType(String contentType) {
+            String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+        }
+    }
+
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+    /** Rejected rows listed in the report; all of them are counted */
+    public static final int MAX_REPORTED_ERRORS = 1_000;
+    private static final int PROGRESS_INTERVAL = 100_000;
+
+    // CSV headers are matched case-insensitively, ignoring spaces and punctuation, so both the
+    // entity property names and the labels of the CSV export are accepted
+    private static final Map<String, BiConsumer<Booking, String>> CSV_COLUMNS = Map.ofEntries(
+        Map.entry("customername", Booking::setCustomerName),
+        Map.entry("bridename", Booking::setBrideName),
+        Map.entry("groomname", Booking::setGroomName),
+        Map.entry("customeremail", Booking::setCustomerEmail),
+        Map.entry("email", Booking::setCustomerEmail),
+        Map.entry("guestcount", (booking, value) -> booking.setGuestCount(Integer.parseInt(value))),
+        Map.entry("specialrequests", Booking::setSpecialRequests),
+        Map.entry("venue", Booking::setVenue),
+        Map.entry("preferredvenue", Booking::setPreferredVenue),
+        Map.entry("weddingdate", (booking, value) -> booking.setWeddingDate(LocalDate.parse(value))),
+        Map.entry("cateringpackage", Booking::setCateringPackage),
+        Map.entry("dietaryrequirements", Booking::setDietaryRequirements),
+        Map.entry("specialcateringrequests", Booking::setSpecialCateringRequests),
+        Map.entry("estimatedguestcount", (booking, value) -> booking.setEstimatedGuestCount(Integer.valueOf(value))),
+        Map.entry("menuplanid", (booking, value) -> booking.setMenuPlanId(Long.valueOf(value))),
+        Map.entry("bookingstatus", Booking::setBookingStatus),
+        Map.entry("status", Booking::setBookingStatus),
+        Map.entry("frontdesknotes", Booking::setFrontDeskNotes),
+        // Imported bookings always get new ids
+        Map.entry("id", (booking, value) -> { })
+    );
+    // Resolved against the menu catalog, so bound per import rather than in CSV_COLUMNS
+    private static final Set<String> CSV_MENU_ITEM_COLUMNS = Set.of("selectedmenuitems", "menuitems");
+
+    private final BulkWriteService bulkWriteService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final VenueAvailabilityService venueAvailabilityService;
+    private final BookingCounterService bookingCounterService;
+    private final MonthlyReportService monthlyReportService;
+    private final MenuCatalogService menuCatalogService;
+    private final CateringForecastService cateringForecastService;
+
+    @Autowired
+    public BookingImportService(BulkWriteService bulkWriteService,
+                                Validator validator,
+                                ObjectMapper objectMapper,
+                                VenueAvailabilityService venueAvailabilityService,
+                                BookingCounterService bookingCounterService,
+                                MonthlyReportService monthlyReportService,
+                                MenuCatalogService menuCatalogService,
+                                CateringForecastService cateringForecastService) {
+        this.bulkWriteService = bulkWriteService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.venueAvailabilityService = venueAvailabilityService;
+        this.bookingCounterService = bookingCounterService;
+        this.monthlyReportService = monthlyReportService;
+        this.menuCatalogService = menuCatalogService;
+        this.cateringForecastService = cateringForecastService;
+    }
+
+    /**
+     * Import every booking in the input, writing valid rows chunkSize at a time
+     * Malformed CSV stops the import: the rows read before it are still written, and the report carries
+     * the error and its line
+     * @throws IllegalArgumentException if the CSV header is missing or names an unknown column
+     */
+    public BookingImportReport importBookings(InputStream input, Format format, int chunkSize) throws IOException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        ImportRun run = new ImportRun(chunkSize, menuCatalogService.getCatalog());
+        System.out.println("📥 Importing bookings from " + format + "...");
+        String error = null;
+        Long errorLine = null;
+        try {
+            try {
+                if (format == Format.CSV) {
+                    readCsv(reader, run);
+                } else {
+                    readNdjson(reader, run);
+                }
+            } catch (CsvReader.MalformedCsvException e) {
+                error = e.getMessage();
+                errorLine = e.getLine();
+                System.err.println("⚠️ Import stopped: " + error);
+            }
+            run.flush();
+        } finally {
+            // Chunks committed before a broken upload stay imported, so derived state is rebuilt either way
+            if (run.imported > 0) {
+                bookingCounterService.rebuild();
+                venueAvailabilityService.rebuild();
+                cateringForecastService.rebuild();
+                run.months.forEach(monthlyReportService::invalidate);
+            }
+        }
+        double seconds = (System.nanoTime() - run.started) / 1_000_000_000.0;
+        System.out.printf("✅ Import finished: %,d rows read, %,d imported, %,d rejected in %.1fs%n",
+            run.rowsRead, run.imported, run.rejected, seconds);
+        return new BookingImportReport(format.name(), run.rowsRead, run.imported, run.rejected, run.errors, seconds,
+            error, errorLine);
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRow();
+        if (header == null) {
+            throw new IllegalArgumentException("The CSV file is empty, a header row is required");
+        }
+        List<BiConsumer<Booking, String>> columns = new ArrayList<>(header.size());
+        for (String name : header) {
+            String key = normalizeHeader(name);
+            BiConsumer<Booking, String> column = CSV_MENU_ITEM_COLUMNS.contains(key) ? run::selectMenusByName
+                    : CSV_COLUMNS.get(key);
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown CSV column: " + name);
+            }
+            columns.add(column);
+        }
+
+        List<String> fields;
+        while ((fields = csv.readRow()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            long row = ++run.rowsRead;
+            if (fields.size() != columns.size()) {
+                run.reject(row, "Expected " + columns.size() + " fields but found " + fields.size());
+                continue;
+            }
+            Booking booking = new Booking();
+            String parseError = null;
+            for (int i = 0; i < fields.size() && parseError == null; i++) {
+                String value = fields.get(i).trim();
+                if (value.isEmpty()) {
+                    continue;
+                }
+                try {
+                    columns.get(i).accept(booking, value);
+                } catch (NumberFormatException | DateTimeParseException e) {
+                    parseError = header.get(i) + ": invalid value '" + value + "'";
+                } catch (IllegalArgumentException e) {
+                    parseError = header.get(i) + ": " + e.getMessage();
+                }
+            }
+            if (parseError != null) {
+                run.reject(row, parseError);
+            } else {
+                run.accept(row, booking);
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            long row = ++run.rowsRead;
+            Booking booking;
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (!(node instanceof ObjectNode fields)) {
+                    run.reject(row, "Invalid JSON: expected an object");
+                    continue;
+                }
+                // Menu items are read-only on Booking; resolve them here
+                JsonNode menuItems = fields.remove("menuItems");
+                JsonNode menuNames = fields.remove("selectedMenuItems");
+                booking = objectMapper.treeToValue(fields, Booking.class);
+                if (menuItems != null && menuItems.isArray()) {
+                    run.selectMenus(booking, menuItems);
+                } else if (menuNames != null && menuNames.isTextual()) {
+                    run.selectMenusByName(booking, menuNames.asText());
+                }
+            } catch (JsonProcessingException e) {
+                run.reject(row, "Invalid JSON: " + e.getOriginalMessage());
+                continue;
+            } catch (IllegalArgumentException e) {
+                run.reject(row, "menuItems: " + e.getMessage());
+                continue;
+            }
+            // Imported bookings always get new ids
+            booking.setId(null);
+            booking.setVersion(0);
+            run.accept(row, booking);
+        }
+    }
+
+    private static String normalizeHeader(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+
+    /**
+     * State of one import: counters, the pending chunk, the slots it has claimed so far and the reported errors
+     */
+    private class ImportRun {
+
+        private final long started = System.nanoTime();
+        private final int chunkSize;
+        private final MenuCatalog catalog;
+        private final List<Booking> chunk;
+        private final List<Long> chunkRows;
+        // Venue slots taken by earlier rows of this import; bounded by venues times dates, not by file size
+        private final Set<String> claimedSlots = new HashSet<>();
+        private final Set<YearMonth> months = new HashSet<>();
+        private final List<BookingImportReport.RowError> errors = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long rejected;
+
+        ImportRun(int chunkSize, MenuCatalog catalog) {
+            this.chunkSize = chunkSize;
+            this.catalog = catalog;
+            this.chunk = new ArrayList<>(chunkSize);
+            this.chunkRows = new ArrayList<>(chunkSize);
+        }
+
+        void accept(long row, Booking booking) {
+            Set<ConstraintViolation<Booking>> violations = validator.validate(booking);
+            if (!violations.isEmpty()) {
+                reject(row, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+                return;
+            }
+            if (booking.getWeddingDate() == null) {
+                reject(row, "weddingDate: must not be null");
+                return;
+            }
+            if (!Booking.STATUS_CANCELLED.equalsIgnoreCase(booking.getBookingStatus())) {
+                String slot = Booking.reservationKeyFor(booking.getVenue(), booking.getWeddingDate());
+                if (!venueAvailabilityService.isFree(booking.getVenue(), booking.getWeddingDate())
+                        || !claimedSlots.add(slot)) {
+                    reject(row, booking.getVenue() + " is already booked on " + booking.getWeddingDate());
+                    return;
+                }
+            }
+            chunk.add(booking);
+            chunkRows.add(row);
+            if (chunk.size() == chunkSize) {
+                flush();
+            }
+        }
+
+        /**
+         * Select the menus named in a comma-separated list
+         * @throws IllegalArgumentException if a name is not in the catalog
+         */
+        void selectMenusByName(Booking booking, String names) {
+            List<Menu> menus = new ArrayList<>();
+            for (String name : names.split(",")) {
+                if (name.isBlank()) {
+                    continue;
+                }
+                Menu menu = catalog.findMenuByName(name);
+                if (menu == null) {
+                    throw new IllegalArgumentException("unknown menu item '" + name.trim() + "'");
+                }
+                menus.add(menu);
+            }
+            booking.selectMenus(menus);
+        }
+
+        /**
+         * Select the menus of exported menuItems, keeping their servings per guest
+         * @throws IllegalArgumentException if a menu id is not in the catalog
+         */
+        void selectMenus(Booking booking, JsonNode items) {
+            List<Menu> menus = new ArrayList<>();
+            Map<Long, Integer> quantities = new HashMap<>();
+            for (JsonNode item : items) {
+                Menu menu = catalog.getMenu(item.path("menuId").asLong());
+                if (menu == null) {
+                    throw new IllegalArgumentException("unknown menu id " + item.path("menuId").asText());
+                }
+                menus.add(menu);
+                quantities.put(menu.getId(), item.path("quantity").asInt(1));
+            }
+            booking.selectMenus(menus);
+            booking.getMenuItems().forEach(item -> item.setQuantity(quantities.get(item.getMenuId())));
+        }
+
+        void reject(long row, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BookingImportReport.RowError(row, message));
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            long before = imported;
+            try {
+                bulkWriteService.insert(withMenuItems(chunk));
+                imported += chunk.size();
+                chunk.forEach(booking -> months.add(YearMonth.from(booking.getWeddingDate())));
+            } catch (RuntimeException chunkFailure) {
+                // A row the checks could not catch (a slot booked meanwhile, a database limit): retry one by one
+                for (int i = 0; i < chunk.size(); i++) {
+                    Booking booking = chunk.get(i);
+                    try {
+                        booking.setId(null);
+                        booking.getMenuItems().forEach(item -> item.setId(null));
+                        bulkWriteService.insert(withMenuItems(List.of(booking)));
+                        imported++;
+                        months.add(YearMonth.from(booking.getWeddingDate()));
+                    } catch (RuntimeException rowFailure) {
+                        reject(chunkRows.get(i), "Could not be saved: " + rootMessage(rowFailure));
+                    }
+                }
+            }
+            chunk.clear();
+            chunkRows.clear();
+            if (imported / PROGRESS_INTERVAL != before / PROGRESS_INTERVAL) {
+                System.out.printf("  - %,d bookings imported%n", imported);
+            }
+        }
+    }
+
+    // The stateless bulk session does not cascade, so each booking is followed by its menu item rows
+    private static List<Object> withMenuItems(List<Booking> bookings) {
+        List<Object> rows = new ArrayList<>(bookings.size() * 2);
+        for (Booking booking : bookings) {
+            rows.add(booking);
+            rows.addAll(booking.getMenuItems());
+        }
+        return rows;
+    }
+
+    private static String rootMessage(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+}
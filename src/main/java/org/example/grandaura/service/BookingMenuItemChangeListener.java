@@ -0,0 +1,40 @@
+package org.example.grandaura.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.grandaura.entity.BookingMenuItem;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that reports menu item changes to the catering forecast and the booking detail cache
+ * Changing only a booking's menu items does not update the booking row, so {@link BookingChangeListener}
+ * does not see it. The services are resolved lazily for the same reason as in that listener.
+ */
+@Component
+public class BookingMenuItemChangeListener {
+
+    private final ObjectProvider<CateringForecastService> cateringForecastService;
+    private final ObjectProvider<BookingDetailService> bookingDetailService;
+
+    @Autowired
+    public BookingMenuItemChangeListener(ObjectProvider<CateringForecastService> cateringForecastService,
+                                         ObjectProvider<BookingDetailService> bookingDetailService) {
+        this.cateringForecastService = cateringForecastService;
+        this.bookingDetailService = bookingDetailService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(BookingMenuItem item) {
+        // Bulk writes rebuild the forecast once instead
+        if (BulkWriteService.inProgress() || item.getBooking() == null) {
+            return;
+        }
+        cateringForecastService.getObject().record(item.getBooking());
+        bookingDetailService.getObject().evict(item.getBooking().getId());
+    }
+}
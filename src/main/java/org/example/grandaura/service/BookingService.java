@@ -1,5 +1,8 @@
 package org.example.grandaura.service;
 
+import org.example.grandaura.dto.BookingPage;
+import org.example.grandaura.dto.BookingPageRequest;
+import org.example.grandaura.dto.BookingStatsSnapshot;
 import org.example.grandaura.entity.Booking;
 
 import java.util.List;
@@ -11,4 +14,6 @@ public interface BookingService {
     List<Booking> getAllBookings();
     void deleteBooking(Long id);
     List<Booking> getBookingsForCustomer(String customerEmail);
+    BookingPage getBookingPage(BookingPageRequest request);
+    BookingStatsSnapshot getStatsSnapshot();
 }
\ No newline at end of file
@@ -1,10 +1,17 @@
 package org.example.grandaura.service;
 
+import org.example.grandaura.dto.BookingCursor;
+import org.example.grandaura.dto.BookingPage;
+import org.example.grandaura.dto.BookingPageRequest;
+import org.example.grandaura.dto.BookingStatsSnapshot;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.repository.BookingRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,15 +19,29 @@ import java.util.Optional;
 public class BookingServiceImpl implements BookingService {
 
     private final BookingRepository bookingRepository;
+    private final BookingCounterService bookingCounterService;
 
     @Autowired
-    public BookingServiceImpl(BookingRepository bookingRepository) {
+    public BookingServiceImpl(BookingRepository bookingRepository, BookingCounterService bookingCounterService) {
         this.bookingRepository = bookingRepository;
+        this.bookingCounterService = bookingCounterService;
     }
 
+    /**
+     * Save a booking; the unique reservation key decides races for the same venue and date,
+     * so exactly one concurrent writer wins and the rest get VenueUnavailableException
+     */
     @Override
     public Booking saveBooking(Booking booking) {
-        return bookingRepository.save(booking);
+        try {
+            return bookingRepository.save(booking);
+        } catch (DataIntegrityViolationException e) {
+            String reservationKey = Booking.reservationKeyFor(booking.getVenue(), booking.getWeddingDate());
+            if (bookingRepository.existsByReservationKeyAndIdNot(reservationKey, booking.getId() != null ? booking.getId() : -1L)) {
+                throw new VenueUnavailableException(booking.getVenue(), booking.getWeddingDate(), e);
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -42,4 +63,38 @@ public class BookingServiceImpl implements BookingService {
     public List<Booking> getBookingsForCustomer(String customerEmail) {
         return bookingRepository.findByCustomerEmailOrderByWeddingDateAsc(customerEmail);
     }
-}
\ No newline at end of file
+
+    @Override
+    public BookingPage getBookingPage(BookingPageRequest request) {
+        BookingCursor after = request.isFirstPage() ? null : BookingCursor.decode(request.getCursor());
+
+        // Fetch one extra row to learn whether another page follows without counting
+        List<Booking> rows = bookingRepository.findPage(
+                request.getVenue(), request.getStatus(),
+                request.getStartDate(), request.getEndDate(),
+                after != null ? after.getWeddingDate() : null,
+                after != null ? after.getId() : null,
+                Limit.of(request.getSize() + 1));
+
+        String nextCursor = null;
+        if (rows.size() > request.getSize()) {
+            rows = rows.subList(0, request.getSize());
+            Booking last = rows.get(rows.size() - 1);
+            nextCursor = new BookingCursor(last.getWeddingDate(), last.getId()).encode();
+        }
+
+        Long totalCount = request.isIncludeTotal()
+                ? bookingRepository.countPage(request.getVenue(), request.getStatus(),
+                        request.getStartDate(), request.getEndDate())
+                : null;
+
+        return new BookingPage(List.copyOf(rows), nextCursor, request.getSize(), totalCount);
+    }
+
+    @Override
+    public BookingStatsSnapshot getStatsSnapshot() {
+        // Totals come from the maintained counters, only the date dependent upcoming count hits the index
+        return bookingCounterService.getStatsSnapshot(
+                bookingRepository.countByWeddingDateGreaterThanEqual(LocalDate.now()));
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.grandaura.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk insert path for seeding, imports and restores
+ * Entities are written through a Hibernate stateless session: ids come from the pooled sequences, inserts
+ * go out in JDBC batches and nothing accumulates in a persistence context, with one short transaction
+ * per chunk. @PrePersist callbacks still run so entities fill in their own defaults (reservation keys,
+ * timestamps), but the booking listener skips its per-row deltas while a bulk write is running:
+ * callers rebuild derived state (booking counters, availability calendars, cached reports) once
+ * the bulk write is done.
+ * A stateless session does not cascade, so callers pass child rows (a booking's menu items) alongside
+ * their parents; rows are written grouped by type in order of first appearance, parents first, which also
+ * keeps each JDBC batch to a single statement.
+ */
+@Service
+public class BulkWriteService {
+
+    public static final int DEFAULT_CHUNK_SIZE = 5_000;
+    /** Matches hibernate.jdbc.batch_size and the sequences' allocationSize */
+    public static final int JDBC_BATCH_SIZE = 50;
+    private static final int PROGRESS_INTERVAL = 100_000;
+
+    private static final ThreadLocal<Boolean> IN_PROGRESS = ThreadLocal.withInitial(() -> false);
+
+    private final SessionFactory sessionFactory;
+    private final CallbackRegistry callbacks;
+
+    @Autowired
+    public BulkWriteService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.callbacks = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getEventEngine().getCallbackRegistry();
+    }
+
+    /**
+     * Insert the entities in one transaction, grouped by type; ids are assigned on the passed instances
+     */
+    public int insert(List<?> entities) {
+        if (entities.isEmpty()) {
+            return 0;
+        }
+        IN_PROGRESS.set(true);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.setJdbcBatchSize(JDBC_BATCH_SIZE);
+            Transaction transaction = session.beginTransaction();
+            try {
+                for (List<Object> group : groupByType(entities)) {
+                    for (Object entity : group) {
+                        callbacks.preCreate(entity);
+                        session.insert(entity);
+                    }
+                }
+                transaction.commit();
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw e;
+            }
+        } finally {
+            IN_PROGRESS.remove();
+        }
+        return entities.size();
+    }
+
+    private static Collection<List<Object>> groupByType(List<?> entities) {
+        Map<Class<?>, List<Object>> groups = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            groups.computeIfAbsent(entity.getClass(), type -> new ArrayList<>()).add(entity);
+        }
+        return groups.values();
+    }
+
+    /**
+     * Whether the current thread is inside a bulk write, whose rows are accounted for by a rebuild afterwards
+     */
+    static boolean inProgress() {
+        return IN_PROGRESS.get();
+    }
+
+    /**
+     * Insert everything the iterator yields, committing about every chunkSize entities and reporting progress
+     * Entities are pulled lazily, so generators and file readers never hold more than one chunk in memory.
+     * A new chunk only starts at an entity of the same type as the chunk's first one, so child rows that
+     * follow their parent are never committed ahead of it.
+     */
+    public long insertAll(Iterator<?> entities, int chunkSize, String label) {
+        long started = System.nanoTime();
+        long written = 0;
+        List<Object> chunk = new ArrayList<>(chunkSize);
+        while (entities.hasNext()) {
+            Object entity = entities.next();
+            if (chunk.size() >= chunkSize && entity.getClass() == chunk.get(0).getClass()) {
+                written = writeChunk(chunk, written, started, label, false);
+            }
+            chunk.add(entity);
+        }
+        if (!chunk.isEmpty()) {
+            written = writeChunk(chunk, written, started, label, true);
+        }
+        return written;
+    }
+
+    private long writeChunk(List<Object> chunk, long before, long started, String label, boolean last) {
+        long written = before + insert(chunk);
+        chunk.clear();
+        if (written / PROGRESS_INTERVAL != before / PROGRESS_INTERVAL || last) {
+            double seconds = Math.max(1e-9, (System.nanoTime() - started) / 1_000_000_000.0);
+            System.out.printf("  - %,d %s written (%,.0f rows/s)%n", written, label, written / seconds);
+        }
+        return written;
+    }
+}
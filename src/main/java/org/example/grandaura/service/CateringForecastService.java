@@ -0,0 +1,420 @@
+package org.example.grandaura.service;
+
+import org.example.grandaura.dto.CateringBookingRow;
+import org.example.grandaura.dto.CateringForecast;
+import org.example.grandaura.dto.MenuCatalog;
+import org.example.grandaura.dto.MenuItemQuantityRow;
+import org.example.grandaura.entity.Booking;
+import org.example.grandaura.entity.BookingMenuItem;
+import org.example.grandaura.entity.Menu;
+import org.example.grandaura.entity.MenuPlan;
+import org.example.grandaura.repository.BookingMenuItemRepository;
+import org.example.grandaura.repository.BookingRepository;
+import org.example.grandaura.util.DietaryRequirements;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * Service forecasting catering demand from in-memory running totals per wedding day
+ * Each non-cancelled booking from today on adds its catering guests (the estimate, or the guest count
+ * when no estimate is given) to its day: its menu items times their servings per guest, one serving of
+ * every dish of its menu plan per guest, and the guests named by its dietary requirements. Totals are
+ * built at startup and kept current from the booking and menu item changes that the entity listeners
+ * report after each commit, so a forecast costs one pass over the days of the window whatever the number
+ * of bookings. Dish names, courses and allergens are looked up in the menu catalog when a forecast is
+ * read, so menu and menu plan edits show up immediately. A booking saved together with its menu items is
+ * read once per transaction, and changes committed while a rebuild reads the tables are replayed onto
+ * the rebuilt totals.
+ */
+@Service
+public class CateringForecastService {
+
+    public static final int DEFAULT_DAYS = 30;
+    public static final int MAX_DAYS = 366;
+
+    // Menu plan dish lists by the course their dishes count under when the catalog has no such menu
+    private static final Map<String, Function<MenuPlan, String>> PLAN_COURSES = new LinkedHashMap<>();
+
+    static {
+        PLAN_COURSES.put("Appetizer", MenuPlan::getAppetizers);
+        PLAN_COURSES.put("Main Course", MenuPlan::getMainCourses);
+        PLAN_COURSES.put("Dessert", MenuPlan::getDesserts);
+        PLAN_COURSES.put("Beverage", MenuPlan::getBeverages);
+    }
+
+    /**
+     * What one booking adds to its wedding day
+     */
+    private record Contribution(LocalDate date, long guests, Map<Long, Long> servingsPerGuest, Long menuPlanId,
+                                Map<String, Integer> dietary) {
+    }
+
+    /**
+     * Running totals of one wedding day; replaced, never modified, so readers need no lock
+     */
+    private record DayTotals(int events, long guests, Map<Long, Long> menuPortions, Map<Long, Long> planGuests,
+                             Map<String, Long> dietary) {
+
+        static final DayTotals EMPTY = new DayTotals(0, 0, Map.of(), Map.of(), Map.of());
+
+        /**
+         * Totals of the given bookings of one day
+         */
+        static DayTotals of(List<Contribution> contributions) {
+            Map<Long, Long> portions = new HashMap<>();
+            Map<Long, Long> plans = new HashMap<>();
+            Map<String, Long> diets = new HashMap<>();
+            long guests = 0;
+            for (Contribution contribution : contributions) {
+                add(contribution, 1, portions, plans, diets);
+                guests += contribution.guests();
+            }
+            return new DayTotals(contributions.size(), guests, portions, plans, diets);
+        }
+
+        /**
+         * These totals with one booking added (sign 1) or taken away (sign -1)
+         */
+        DayTotals plus(Contribution contribution, int sign) {
+            Map<Long, Long> portions = new HashMap<>(menuPortions);
+            Map<Long, Long> plans = new HashMap<>(planGuests);
+            Map<String, Long> diets = new HashMap<>(dietary);
+            add(contribution, sign, portions, plans, diets);
+            return new DayTotals(events + sign, guests + sign * contribution.guests(), portions, plans, diets);
+        }
+
+        private static void add(Contribution contribution, int sign, Map<Long, Long> portions, Map<Long, Long> plans,
+                                Map<String, Long> diets) {
+            contribution.servingsPerGuest().forEach((menuId, servings) ->
+                    add(portions, menuId, sign * servings * contribution.guests()));
+            if (contribution.menuPlanId() != null) {
+                add(plans, contribution.menuPlanId(), sign * contribution.guests());
+            }
+            contribution.dietary().forEach((requirement, guests) -> add(diets, requirement, (long) sign * guests));
+        }
+
+        private static <K> void add(Map<K, Long> totals, K key, long delta) {
+            totals.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+    }
+
+    private final BookingRepository bookingRepository;
+    private final BookingMenuItemRepository bookingMenuItemRepository;
+    private final MenuCatalogService menuCatalogService;
+    private volatile NavigableMap<LocalDate, DayTotals> days = new ConcurrentSkipListMap<>();
+    private volatile Map<Long, Contribution> contributions = new ConcurrentHashMap<>();
+    // Changes applied while a rebuild is reading the tables, replayed onto its result; guarded by this
+    private List<Change> changesDuringRebuild;
+    private final Object rebuildLock = new Object();
+
+    @Autowired
+    public CateringForecastService(BookingRepository bookingRepository,
+                                   BookingMenuItemRepository bookingMenuItemRepository,
+                                   MenuCatalogService menuCatalogService) {
+        this.bookingRepository = bookingRepository;
+        this.bookingMenuItemRepository = bookingMenuItemRepository;
+        this.menuCatalogService = menuCatalogService;
+    }
+
+    /**
+     * Build the running totals once the application is up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadTotals() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild every day's totals from the bookings table, from today onwards
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                changesDuringRebuild = new ArrayList<>();
+            }
+            try {
+                rebuildTotals();
+            } finally {
+                synchronized (this) {
+                    changesDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    private void rebuildTotals() {
+        LocalDate today = LocalDate.now();
+        Map<Long, Map<Long, Long>> servings = new HashMap<>();
+        for (MenuItemQuantityRow row : bookingMenuItemRepository.findQuantitiesFrom(today)) {
+            servings.computeIfAbsent(row.getBookingId(), id -> new HashMap<>())
+                    .merge(row.getMenuId(), (long) row.getQuantity(), Long::sum);
+        }
+        Map<Long, Contribution> rebuiltContributions = new ConcurrentHashMap<>();
+        Map<LocalDate, List<Contribution>> byDate = new HashMap<>();
+        for (CateringBookingRow row : bookingRepository.findCateringRowsFrom(today)) {
+            Contribution contribution = contribution(row.getWeddingDate(), row.getGuestCount(),
+                    row.getEstimatedGuestCount(), servings.getOrDefault(row.getId(), Map.of()),
+                    row.getMenuPlanId(), row.getDietaryRequirements());
+            rebuiltContributions.put(row.getId(), contribution);
+            byDate.computeIfAbsent(contribution.date(), date -> new ArrayList<>()).add(contribution);
+        }
+        NavigableMap<LocalDate, DayTotals> rebuiltDays = new ConcurrentSkipListMap<>();
+        byDate.forEach((date, dayContributions) -> rebuiltDays.put(date, DayTotals.of(dayContributions)));
+        synchronized (this) {
+            contributions = rebuiltContributions;
+            days = rebuiltDays;
+            // A change may already be in what was read; applying a booking's latest state again is harmless
+            for (Change change : changesDuringRebuild) {
+                update(change.bookingId(), change.current());
+            }
+        }
+    }
+
+    /**
+     * Record a booking's current catering state, replacing what it contributed before
+     * Applied after the surrounding transaction commits so rolled back writes never show up
+     */
+    public void record(Booking booking) {
+        afterCommit(booking.getId(), booking);
+    }
+
+    /**
+     * Record that a booking is gone
+     */
+    public void remove(Long bookingId) {
+        afterCommit(bookingId, null);
+    }
+
+    /**
+     * Demand per day, per week and in total for the bookings between from and to inclusive
+     * The window is capped at MAX_DAYS days and never starts before today
+     */
+    public CateringForecast forecast(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = from == null || from.isBefore(today) ? today : from;
+        LocalDate end = to == null ? start.plusDays(DEFAULT_DAYS - 1) : to;
+        if (end.isAfter(start.plusDays(MAX_DAYS - 1))) {
+            end = start.plusDays(MAX_DAYS - 1);
+        }
+        MenuCatalog catalog = menuCatalogService.getCatalog();
+        List<CateringForecast.Period> dayPeriods = new ArrayList<>();
+        List<CateringForecast.Period> weekPeriods = new ArrayList<>();
+        PeriodTotals total = new PeriodTotals(start, end);
+        PeriodTotals week = null;
+        if (!end.isBefore(start)) {
+            for (Map.Entry<LocalDate, DayTotals> day : days.subMap(start, true, end, true).entrySet()) {
+                LocalDate date = day.getKey();
+                if (week != null && date.isAfter(week.end)) {
+                    weekPeriods.add(week.toPeriod());
+                    week = null;
+                }
+                if (week == null) {
+                    LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                    LocalDate sunday = monday.plusDays(6);
+                    week = new PeriodTotals(monday.isBefore(start) ? start : monday, sunday.isAfter(end) ? end : sunday);
+                }
+                PeriodTotals single = new PeriodTotals(date, date);
+                single.add(day.getValue(), catalog);
+                dayPeriods.add(single.toPeriod());
+                week.add(day.getValue(), catalog);
+                total.add(day.getValue(), catalog);
+            }
+        }
+        if (week != null) {
+            weekPeriods.add(week.toPeriod());
+        }
+        return new CateringForecast(start, end, dayPeriods, weekPeriods, total.toPeriod());
+    }
+
+    /**
+     * Number of bookings currently counted in the forecast
+     */
+    public int getTrackedBookings() {
+        return contributions.size();
+    }
+
+    private synchronized void apply(Long bookingId, Contribution current) {
+        if (bookingId == null) {
+            return;
+        }
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(new Change(bookingId, current));
+        }
+        update(bookingId, current);
+    }
+
+    private void update(Long bookingId, Contribution current) {
+        Contribution previous = current != null ? contributions.put(bookingId, current) : contributions.remove(bookingId);
+        if (previous != null) {
+            days.compute(previous.date(), (date, totals) -> {
+                DayTotals updated = (totals != null ? totals : DayTotals.EMPTY).plus(previous, -1);
+                return updated.events() <= 0 ? null : updated;
+            });
+        }
+        if (current != null) {
+            days.compute(current.date(), (date, totals) -> (totals != null ? totals : DayTotals.EMPTY).plus(current, 1));
+        }
+    }
+
+    private Contribution contributionOf(Booking booking) {
+        if (booking.getId() == null || booking.getWeddingDate() == null
+                || booking.getWeddingDate().isBefore(LocalDate.now())
+                || Booking.STATUS_CANCELLED.equalsIgnoreCase(booking.getBookingStatus())) {
+            return null;
+        }
+        Map<Long, Long> servings = new HashMap<>();
+        // The changed booking's items are usually loaded already; otherwise read just its rows
+        if (Hibernate.isInitialized(booking.getMenuItems())) {
+            for (BookingMenuItem item : booking.getMenuItems()) {
+                servings.merge(item.getMenuId(), (long) item.getQuantity(), Long::sum);
+            }
+        } else {
+            for (MenuItemQuantityRow row : bookingMenuItemRepository.findQuantitiesByBookingId(booking.getId())) {
+                servings.merge(row.getMenuId(), (long) row.getQuantity(), Long::sum);
+            }
+        }
+        return contribution(booking.getWeddingDate(), booking.getGuestCount(), booking.getEstimatedGuestCount(),
+                servings, booking.getMenuPlanId(), booking.getDietaryRequirements());
+    }
+
+    private static Contribution contribution(LocalDate date, int guestCount, Integer estimatedGuestCount,
+                                             Map<Long, Long> servings, Long menuPlanId, String dietaryRequirements) {
+        long guests = estimatedGuestCount != null && estimatedGuestCount > 0 ? estimatedGuestCount : guestCount;
+        return new Contribution(date, guests, servings, menuPlanId,
+                DietaryRequirements.parse(dietaryRequirements, (int) guests));
+    }
+
+    // One synchronization per transaction collects the changed bookings, so a booking saved with several
+    // menu items is applied, and its items read, once; null marks a removed booking
+    private void afterCommit(Long bookingId, Booking booking) {
+        if (bookingId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(bookingId, booking != null ? contributionOf(booking) : null);
+            return;
+        }
+        PendingChanges pending = null;
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges changes && changes.owner() == this) {
+                pending = changes;
+                break;
+            }
+        }
+        if (pending == null) {
+            pending = new PendingChanges(this, new LinkedHashMap<>());
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.bookings().put(bookingId, booking);
+    }
+
+    private record Change(Long bookingId, Contribution current) {
+    }
+
+    private record PendingChanges(CateringForecastService owner, Map<Long, Booking> bookings)
+            implements TransactionSynchronization {
+
+        @Override
+        public void afterCommit() {
+            bookings.forEach((id, booking) -> owner.apply(id, booking != null ? owner.contributionOf(booking) : null));
+        }
+    }
+
+    /**
+     * Day totals summed over a period, with menus and menu plans resolved to dishes, courses and allergens
+     */
+    private static class PeriodTotals {
+
+        private final LocalDate start;
+        private final LocalDate end;
+        private int events;
+        private long guests;
+        private final Map<String, Long> dishes = new HashMap<>();
+        private final Map<String, Long> courses = new HashMap<>();
+        private final Map<String, Long> allergens = new HashMap<>();
+        private final Map<String, Long> dietary = new HashMap<>();
+
+        PeriodTotals(LocalDate start, LocalDate end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        void add(DayTotals day, MenuCatalog catalog) {
+            events += day.events();
+            guests += day.guests();
+            day.menuPortions().forEach((menuId, portions) -> {
+                Menu menu = catalog.getMenu(menuId);
+                addDish(menu, menu != null ? menu.getName() : "Menu #" + menuId, null, portions);
+            });
+            day.planGuests().forEach((planId, planGuests) -> addPlan(catalog, planId, planGuests));
+            day.dietary().forEach((requirement, count) -> dietary.merge(requirement, count, Long::sum));
+        }
+
+        private void addPlan(MenuCatalog catalog, Long planId, long planGuests) {
+            MenuPlan plan = catalog.getMenuPlan(planId);
+            if (plan == null) {
+                return;
+            }
+            PLAN_COURSES.forEach((course, dishesOf) -> {
+                String names = dishesOf.apply(plan);
+                if (names == null) {
+                    return;
+                }
+                for (String name : names.split(",")) {
+                    if (!name.isBlank()) {
+                        Menu menu = catalog.findMenuByName(name);
+                        addDish(menu, menu != null ? menu.getName() : name.trim(), course, planGuests);
+                    }
+                }
+            });
+        }
+
+        private void addDish(Menu menu, String name, String planCourse, long portions) {
+            dishes.merge(name, portions, Long::sum);
+            String course = menu != null && menu.getCategory() != null ? menu.getCategory()
+                    : planCourse != null ? planCourse : "Other";
+            courses.merge(course, portions, Long::sum);
+            if (menu != null && menu.getAllergens() != null) {
+                for (String allergen : menu.getAllergens().replaceFirst("(?i)^\\s*contains\\s*", "").split(",|\\band\\b")) {
+                    if (!allergen.isBlank()) {
+                        String label = allergen.trim();
+                        allergens.merge(Character.toUpperCase(label.charAt(0)) + label.substring(1).toLowerCase(),
+                                portions, Long::sum);
+                    }
+                }
+            }
+        }
+
+        CateringForecast.Period toPeriod() {
+            return new CateringForecast.Period(start, end, events, guests,
+                    largestFirst(dishes), largestFirst(courses), largestFirst(allergens), largestFirst(dietary));
+        }
+
+        private static Map<String, Long> largestFirst(Map<String, Long> totals) {
+            Map<String, Long> sorted = new LinkedHashMap<>();
+            totals.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+            return Collections.unmodifiableMap(sorted);
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package org.example.grandaura.service;
 
+import org.example.grandaura.dto.BookingDetailView;
+import org.example.grandaura.dto.BookingPage;
+import org.example.grandaura.dto.BookingPageRequest;
+import org.example.grandaura.dto.CateringForecast;
+import org.example.grandaura.dto.MenuCatalog;
+import org.example.grandaura.dto.MenuDemandRow;
+import org.example.grandaura.dto.MenuSuggestion;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.entity.CateringManager;
 import org.example.grandaura.entity.Menu;
 import org.example.grandaura.entity.MenuPlan;
+import org.example.grandaura.repository.BookingMenuItemRepository;
 import org.example.grandaura.repository.BookingRepository;
 import org.example.grandaura.repository.CateringManagerRepository;
 import org.example.grandaura.repository.MenuRepository;
 import org.example.grandaura.repository.MenuPlanRepository;
+import org.example.grandaura.util.DietaryRequirements;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -26,18 +35,33 @@ public class CateringManagerService {
 
     private final CateringManagerRepository cateringManagerRepository;
     private final BookingRepository bookingRepository;
+    private final BookingMenuItemRepository bookingMenuItemRepository;
     private final MenuRepository menuRepository;
     private final MenuPlanRepository menuPlanRepository;
+    private final BookingService bookingService;
+    private final MenuCatalogService menuCatalogService;
+    private final CateringForecastService cateringForecastService;
+    private final BookingDetailService bookingDetailService;
 
     @Autowired
     public CateringManagerService(CateringManagerRepository cateringManagerRepository,
                                  BookingRepository bookingRepository,
+                                 BookingMenuItemRepository bookingMenuItemRepository,
                                  MenuRepository menuRepository,
-                                 MenuPlanRepository menuPlanRepository) {
+                                 MenuPlanRepository menuPlanRepository,
+                                 BookingService bookingService,
+                                 MenuCatalogService menuCatalogService,
+                                 CateringForecastService cateringForecastService,
+                                 BookingDetailService bookingDetailService) {
         this.cateringManagerRepository = cateringManagerRepository;
         this.bookingRepository = bookingRepository;
+        this.bookingMenuItemRepository = bookingMenuItemRepository;
         this.menuRepository = menuRepository;
         this.menuPlanRepository = menuPlanRepository;
+        this.bookingService = bookingService;
+        this.menuCatalogService = menuCatalogService;
+        this.cateringForecastService = cateringForecastService;
+        this.bookingDetailService = bookingDetailService;
     }
 
     // Catering Manager Management Methods
@@ -78,19 +102,72 @@ public class CateringManagerService {
     public List<Booking> getAllBookings() {
         return bookingRepository.findAll();
     }
+
+    /**
+     * Get booking by ID
+     */
+    public Optional<Booking> getBookingById(Long id) {
+        return bookingRepository.findById(id);
+    }
+
+    /**
+     * Get the booking detail page view: couple, venue, guests, catering details and menu items
+     */
+    public Optional<BookingDetailView> getBookingDetail(Long id) {
+        return bookingDetailService.getBookingDetail(id, BookingDetailView.Scope.CATERING);
+    }
     
     public long getBookingCount() {
         return bookingRepository.count();
     }
 
+    /**
+     * Get one keyset page of bookings matching the request filters
+     */
+    public BookingPage getBookingPage(BookingPageRequest request) {
+        return bookingService.getBookingPage(request);
+    }
+
+    /**
+     * Count bookings from today onwards
+     */
+    public long getUpcomingBookingCount() {
+        return bookingRepository.countByWeddingDateGreaterThanEqual(LocalDate.now());
+    }
+
+    /**
+     * Get total guest count across all bookings
+     */
+    public long getTotalGuests() {
+        return bookingRepository.sumGuestCount();
+    }
+
     /**
      * Get upcoming bookings for catering planning
      */
     public List<Booking> getUpcomingBookings() {
-        LocalDate today = LocalDate.now();
-        return bookingRepository.findAll().stream()
-                .filter(booking -> booking.getWeddingDate().isAfter(today) || booking.getWeddingDate().isEqual(today))
-                .toList();
+        return bookingRepository.findByWeddingDateGreaterThanEqualOrderByWeddingDateAsc(LocalDate.now());
+    }
+
+    /**
+     * Get the catering demand forecast per day and week; the window defaults to the next 30 days
+     */
+    public CateringForecast getCateringForecast(LocalDate from, LocalDate to) {
+        return cateringForecastService.forecast(from, to);
+    }
+
+    /**
+     * Get the portions of each menu item to prepare for the bookings between the two dates
+     */
+    public List<MenuDemandRow> getMenuDemand(LocalDate from, LocalDate to) {
+        return bookingMenuItemRepository.findDemandBetween(from, to);
+    }
+
+    /**
+     * Get the bookings that include a menu item
+     */
+    public List<Booking> getBookingsServingMenu(Long menuId) {
+        return bookingMenuItemRepository.findBookingsByMenuId(menuId);
     }
 
     /**
@@ -147,11 +224,14 @@ public class CateringManagerService {
         data.put("bookingsByVenue", bookingsByVenue);
         data.put("totalUpcomingEvents", upcomingBookings.size());
         
-        // Calculate dietary requirements (mock data)
-        data.put("vegetarianRequests", upcomingBookings.size() * 0.3);
-        data.put("veganRequests", upcomingBookings.size() * 0.1);
-        data.put("glutenFreeRequests", upcomingBookings.size() * 0.2);
-        data.put("halalRequests", upcomingBookings.size() * 0.15);
+        // Dish, course and dietary totals from the running forecast over the next 30 days
+        CateringForecast forecast = getCateringForecast(null, null);
+        CateringForecast.Period next30Days = forecast.getTotal();
+        data.put("forecast", forecast);
+        data.put("vegetarianRequests", next30Days.dietaryGuests(DietaryRequirements.VEGETARIAN));
+        data.put("veganRequests", next30Days.dietaryGuests(DietaryRequirements.VEGAN));
+        data.put("glutenFreeRequests", next30Days.dietaryGuests(DietaryRequirements.GLUTEN_FREE));
+        data.put("halalRequests", next30Days.dietaryGuests(DietaryRequirements.HALAL));
         
         return data;
     }
@@ -242,7 +322,7 @@ public class CateringManagerService {
      * Get all menu items
      */
     public List<Menu> getAllMenus() {
-        return menuRepository.findAll();
+        return menuCatalogService.getCatalog().getMenus();
     }
 
     /**
@@ -256,7 +336,9 @@ public class CateringManagerService {
      * Save or update menu item
      */
     public Menu saveMenu(Menu menu) {
-        return menuRepository.save(menu);
+        Menu saved = menuRepository.save(menu);
+        menuCatalogService.refresh();
+        return saved;
     }
 
     /**
@@ -264,48 +346,63 @@ public class CateringManagerService {
      */
     public void deleteMenu(Long id) {
         menuRepository.deleteById(id);
+        menuCatalogService.refresh();
+    }
+
+    /**
+     * Get the menus with the given ids, skipping unknown ones
+     */
+    public List<Menu> getMenusById(List<Long> ids) {
+        return menuCatalogService.getCatalog().getMenusById(ids);
     }
 
     /**
      * Get menus by category
      */
     public List<Menu> getMenusByCategory(String category) {
-        return menuRepository.findByCategoryAndIsAvailableTrue(category);
+        return menuCatalogService.getCatalog().getAvailableMenusByCategory(category);
     }
 
     /**
      * Get menus by cuisine
      */
     public List<Menu> getMenusByCuisine(String cuisine) {
-        return menuRepository.findByCuisineAndIsAvailableTrue(cuisine);
+        return menuCatalogService.getCatalog().getAvailableMenusByCuisine(cuisine);
     }
 
     /**
      * Get available menus only
      */
     public List<Menu> getAvailableMenus() {
-        return menuRepository.findByIsAvailableTrue();
+        return menuCatalogService.getCatalog().getAvailableMenus();
+    }
+
+    /**
+     * Search menus by name, description, dietary info and allergens, best match first
+     */
+    public List<Menu> searchMenus(String query) {
+        return menuCatalogService.searchMenus(query);
     }
 
     /**
-     * Search menus by name
+     * Get menu suggestions for a partly typed search
      */
-    public List<Menu> searchMenusByName(String name) {
-        return menuRepository.findByNameContainingIgnoreCase(name);
+    public List<MenuSuggestion> getMenuSuggestions(String query) {
+        return menuCatalogService.suggestMenus(query);
     }
 
     /**
      * Get all unique categories
      */
     public List<String> getAllCategories() {
-        return menuRepository.findDistinctCategories();
+        return menuCatalogService.getCatalog().getCategories();
     }
 
     /**
      * Get all unique cuisines
      */
     public List<String> getAllCuisines() {
-        return menuRepository.findDistinctCuisines();
+        return menuCatalogService.getCatalog().getCuisines();
     }
 
     /**
@@ -317,6 +414,7 @@ public class CateringManagerService {
             Menu menu = menuOpt.get();
             menu.setIsAvailable(!menu.getIsAvailable());
             menuRepository.save(menu);
+            menuCatalogService.refresh();
         }
     }
 
@@ -326,8 +424,9 @@ public class CateringManagerService {
     public Map<String, Object> getMenuStatistics() {
         Map<String, Object> stats = new HashMap<>();
         
-        List<Menu> allMenus = menuRepository.findAll();
-        List<Menu> availableMenus = menuRepository.findByIsAvailableTrue();
+        MenuCatalog catalog = menuCatalogService.getCatalog();
+        List<Menu> allMenus = catalog.getMenus();
+        List<Menu> availableMenus = catalog.getAvailableMenus();
         
         stats.put("totalMenus", allMenus.size());
         stats.put("availableMenus", availableMenus.size());
@@ -335,8 +434,8 @@ public class CateringManagerService {
         
         // Count by category
         Map<String, Long> categoryCount = new HashMap<>();
-        for (String category : menuRepository.findDistinctCategories()) {
-            categoryCount.put(category, menuRepository.countByCategory(category));
+        for (Menu menu : allMenus) {
+            categoryCount.merge(menu.getCategory(), 1L, Long::sum);
         }
         stats.put("categoryCount", categoryCount);
         
@@ -349,14 +448,14 @@ public class CateringManagerService {
      * Get all menu plan templates
      */
     public List<MenuPlan> getAllMenuPlans() {
-        return menuPlanRepository.findAllOrderByPlanName();
+        return menuCatalogService.getCatalog().getMenuPlans();
     }
 
     /**
      * Get active menu plan templates (available for customers)
      */
     public List<MenuPlan> getActiveMenuPlans() {
-        return menuPlanRepository.findByIsActiveTrue();
+        return menuCatalogService.getCatalog().getActiveMenuPlans();
     }
 
     /**
@@ -371,7 +470,9 @@ public class CateringManagerService {
      */
     public MenuPlan saveMenuPlan(MenuPlan menuPlan) {
         menuPlan.setLastModifiedDate(LocalDate.now());
-        return menuPlanRepository.save(menuPlan);
+        MenuPlan saved = menuPlanRepository.save(menuPlan);
+        menuCatalogService.refresh();
+        return saved;
     }
 
     /**
@@ -383,7 +484,9 @@ public class CateringManagerService {
         if (menuPlan.getIsActive() == null) {
             menuPlan.setIsActive(true);
         }
-        return menuPlanRepository.save(menuPlan);
+        MenuPlan saved = menuPlanRepository.save(menuPlan);
+        menuCatalogService.refresh();
+        return saved;
     }
 
     /**
@@ -391,13 +494,14 @@ public class CateringManagerService {
      */
     public void deleteMenuPlan(Long id) {
         menuPlanRepository.deleteById(id);
+        menuCatalogService.refresh();
     }
 
     /**
      * Get menu plans by category
      */
     public List<MenuPlan> getMenuPlansByCategory(String category) {
-        return menuPlanRepository.findByCategory(category);
+        return menuCatalogService.getCatalog().getMenuPlansByCategory(category);
     }
 
     /**
@@ -410,6 +514,7 @@ public class CateringManagerService {
             menuPlan.setIsActive(!menuPlan.getIsActive());
             menuPlan.setLastModifiedDate(LocalDate.now());
             menuPlanRepository.save(menuPlan);
+            menuCatalogService.refresh();
         }
     }
 
@@ -419,14 +524,16 @@ public class CateringManagerService {
     public Map<String, Object> getMenuPlanStatistics() {
         Map<String, Object> stats = new HashMap<>();
         
-        List<MenuPlan> allPlans = menuPlanRepository.findAll();
+        MenuCatalog catalog = menuCatalogService.getCatalog();
+        List<MenuPlan> allPlans = catalog.getMenuPlans();
+        int activePlans = catalog.getActiveMenuPlans().size();
         
         stats.put("totalPlans", allPlans.size());
-        stats.put("activePlans", menuPlanRepository.countByIsActiveTrue());
-        stats.put("inactivePlans", allPlans.size() - menuPlanRepository.countByIsActiveTrue());
-        stats.put("classicPlans", menuPlanRepository.countByCategory("Classic"));
-        stats.put("premiumPlans", menuPlanRepository.countByCategory("Premium"));
-        stats.put("luxuryPlans", menuPlanRepository.countByCategory("Luxury"));
+        stats.put("activePlans", (long) activePlans);
+        stats.put("inactivePlans", allPlans.size() - (long) activePlans);
+        stats.put("classicPlans", (long) catalog.getMenuPlansByCategory("Classic").size());
+        stats.put("premiumPlans", (long) catalog.getMenuPlansByCategory("Premium").size());
+        stats.put("luxuryPlans", (long) catalog.getMenuPlansByCategory("Luxury").size());
         
         return stats;
     }
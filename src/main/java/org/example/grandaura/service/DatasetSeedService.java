@@ -0,0 +1,381 @@
+package org.example.grandaura.service;
+
+import org.example.grandaura.dto.VenueReservationRow;
+import org.example.grandaura.entity.Booking;
+import org.example.grandaura.entity.Menu;
+import org.example.grandaura.entity.MenuPlan;
+import org.example.grandaura.entity.UserAccount;
+import org.example.grandaura.repository.BookingRepository;
+import org.example.grandaura.util.SeedDistribution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates synthetic user accounts, menus, menu plans and bookings for load tests and benchmarks
+ * Entities go through the bulk write path (pooled sequence ids, JDBC batches, one transaction per
+ * chunk), so millions of rows take minutes. Because the post-write listeners are bypassed, booking
+ * counters, availability calendars and monthly reports are rebuilt once seeding finishes.
+ *
+ * Bookings keep the one-booking-per-venue-and-date rule, counting the slots already held in the
+ * database by earlier runs or real bookings: an active booking whose drawn date is taken moves to the venue's next free date, and once a venue's calendar is full further bookings
+ * are stored as cancelled. A run whose expected active bookings do not fit the free venue dates is
+ * refused up front rather than turning the excess into cancellations; widen dates.years.past/ahead or
+ * add venues for larger counts.
+ */
+@Service
+public class DatasetSeedService {
+
+    /** Password shared by every seeded account, hashed once */
+    public static final String SEED_PASSWORD = "password123";
+
+    // First ten are bride names, last ten groom names
+    private static final String[] FIRST_NAMES = {
+        "Amaya", "Nadeesha", "Kavindi", "Sachini", "Dilani", "Tharushi", "Ishara", "Nethmi", "Hiruni", "Sanduni",
+        "Kasun", "Nuwan", "Chamara", "Dinesh", "Ruwan", "Sahan", "Pasindu", "Lahiru", "Isuru", "Tharindu"
+    };
+    private static final String[] LAST_NAMES = {
+        "Perera", "Fernando", "Silva", "Jayasinghe", "Wickramasinghe", "Bandara", "Dissanayake", "Rajapaksa",
+        "Gunawardena", "Herath", "Senanayake", "Karunaratne", "Ranasinghe", "Wijesinghe", "Amarasinghe"
+    };
+    private static final String[] SPECIAL_REQUESTS = {
+        "Floral arch at the entrance", "Live band for the reception", "Poruwa ceremony setup",
+        "Late finish until midnight", "Photo booth near the dance floor", "Kandyan drummers on arrival"
+    };
+    private static final String[] MENU_CATEGORIES = {
+        "Appetizer", "Soup", "Salad", "Main Course", "Side Dish", "Dessert", "Beverage"
+    };
+    private static final String[] CUISINES = {
+        "Sri Lankan", "Indian", "Continental", "Chinese", "Italian", "Thai", "Mediterranean"
+    };
+    private static final String[] MENU_DIETARY_INFO = { null, "Vegetarian", "Vegan", "Gluten-Free", "Halal" };
+    private static final String[] PLAN_CATEGORIES = { "Classic", "Premium", "Luxury", "Custom" };
+
+    private final BulkWriteService bulkWriteService;
+    private final BookingRepository bookingRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final VenueAvailabilityService venueAvailabilityService;
+    private final BookingCounterService bookingCounterService;
+    private final MonthlyReportService monthlyReportService;
+    private final CateringForecastService cateringForecastService;
+
+    @Autowired
+    public DatasetSeedService(BulkWriteService bulkWriteService,
+                              BookingRepository bookingRepository,
+                              PasswordEncoder passwordEncoder,
+                              VenueAvailabilityService venueAvailabilityService,
+                              BookingCounterService bookingCounterService,
+                              MonthlyReportService monthlyReportService,
+                              CateringForecastService cateringForecastService) {
+        this.bulkWriteService = bulkWriteService;
+        this.bookingRepository = bookingRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.venueAvailabilityService = venueAvailabilityService;
+        this.bookingCounterService = bookingCounterService;
+        this.monthlyReportService = monthlyReportService;
+        this.cateringForecastService = cateringForecastService;
+    }
+
+    /**
+     * Seed the given number of bookings plus their accounts, menus and menu plans
+     * Returns the row counts and timings of the run
+     */
+    public Map<String, Object> seed(int bookings, SeedDistribution distribution) {
+        long started = System.nanoTime();
+        List<LocalDate> candidateDates = distribution.getDates();
+        Map<String, BitSet> takenSlots = loadTakenSlots(candidateDates);
+        checkCapacity(bookings, distribution, takenSlots);
+        SplittableRandom random = new SplittableRandom(distribution.getInt("random.seed"));
+        int batchSize = Math.max(1, distribution.getInt("batch.size"));
+        // Distinguishes this run's account emails and plan creators from earlier runs; reservation keys are
+        // venue|date and cannot be tagged, so taken slots are read from the database instead
+        String runTag = Long.toString(System.currentTimeMillis(), 36);
+
+        int userCount = Math.max(1, (int) Math.round(bookings * distribution.getDouble("users.per.booking")));
+        seedUsers(userCount, runTag, batchSize);
+        List<Menu> menus = seedMenus(distribution.getInt("menus.count"), random, batchSize);
+        List<String> menuNames = menus.stream().map(Menu::getName).toList();
+        List<Long> menuPlanIds = seedMenuPlans(distribution.getInt("menu.plans.count"), runTag, random, menuNames);
+        Map<String, Long> bookingStats = seedBookings(bookings, userCount, runTag, distribution, random,
+            menus, menuPlanIds, batchSize, takenSlots);
+
+        System.out.println("🔄 Rebuilding booking counters, availability calendars, catering forecast and monthly reports...");
+        bookingCounterService.rebuild();
+        venueAvailabilityService.rebuild();
+        cateringForecastService.rebuild();
+        List<LocalDate> dates = distribution.getDates();
+        for (YearMonth month = YearMonth.from(dates.get(0)); !month.isAfter(YearMonth.from(dates.get(dates.size() - 1)));
+             month = month.plusMonths(1)) {
+            monthlyReportService.invalidate(month);
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("users", userCount);
+        stats.put("menus", menus.size());
+        stats.put("menuPlans", menuPlanIds.size());
+        stats.putAll(bookingStats);
+        stats.put("seconds", (System.nanoTime() - started) / 1_000_000_000.0);
+        return stats;
+    }
+
+    private void seedUsers(int count, String runTag, int batchSize) {
+        System.out.println("👤 Seeding " + count + " user accounts...");
+        String passwordHash = passwordEncoder.encode(SEED_PASSWORD);
+        bulkWriteService.insertAll(generate(count, index -> {
+            UserAccount user = new UserAccount();
+            user.setEmail(customerEmail(index, runTag));
+            user.setPasswordHash(passwordHash);
+            return user;
+        }), batchSize, "users");
+    }
+
+    private List<Menu> seedMenus(int count, SplittableRandom random, int batchSize) {
+        System.out.println("🍽️ Seeding " + count + " menus...");
+        // Kept for the bookings' menu items; ids are assigned on the instances by the insert
+        List<Menu> menus = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+        bulkWriteService.insertAll(generate(count, index -> {
+            String cuisine = CUISINES[random.nextInt(CUISINES.length)];
+            String category = MENU_CATEGORIES[random.nextInt(MENU_CATEGORIES.length)];
+            Menu menu = new Menu();
+            menu.setName(cuisine + " " + category + " " + (index + 1));
+            menu.setDescription("Seeded " + category.toLowerCase() + " from the " + cuisine + " kitchen");
+            menu.setPrice(BigDecimal.valueOf(300 + random.nextInt(4_700)));
+            menu.setCategory(category);
+            menu.setCuisine(cuisine);
+            menu.setDietaryInfo(MENU_DIETARY_INFO[random.nextInt(MENU_DIETARY_INFO.length)]);
+            menu.setIsAvailable(random.nextInt(10) != 0);
+            menu.setPreparationTime(10 + random.nextInt(110));
+            menu.setAllergens(random.nextInt(4) == 0 ? "Contains nuts, dairy" : null);
+            menu.setCreatedAt(now);
+            menu.setUpdatedAt(now);
+            menus.add(menu);
+            return menu;
+        }), batchSize, "menus");
+        return menus;
+    }
+
+    private List<Long> seedMenuPlans(int count, String runTag, SplittableRandom random, List<String> menuNames) {
+        System.out.println("📋 Seeding " + count + " menu plans...");
+        List<MenuPlan> plans = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String category = PLAN_CATEGORIES[random.nextInt(PLAN_CATEGORIES.length)];
+            MenuPlan plan = new MenuPlan(category + " Wedding Plan " + (i + 1),
+                "Seeded " + category.toLowerCase() + " wedding menu plan", 1_500.0 + random.nextInt(8_500), category);
+            plan.setAppetizers(pickMenuItems(random, menuNames, 3));
+            plan.setMainCourses(pickMenuItems(random, menuNames, 3));
+            plan.setDesserts(pickMenuItems(random, menuNames, 2));
+            plan.setBeverages(pickMenuItems(random, menuNames, 2));
+            plan.setDietaryInfo(MENU_DIETARY_INFO[random.nextInt(MENU_DIETARY_INFO.length)]);
+            plan.setIsActive(random.nextInt(5) != 0);
+            plan.setCreatedBy("seed-" + runTag);
+            plans.add(plan);
+        }
+        bulkWriteService.insert(plans);
+        // Ids are assigned on the instances by the insert
+        return plans.stream().map(MenuPlan::getId).toList();
+    }
+
+    private Map<String, Long> seedBookings(int count, int userCount, String runTag, SeedDistribution distribution,
+                                           SplittableRandom random, List<Menu> menus, List<Long> menuPlanIds,
+                                           int batchSize, Map<String, BitSet> takenSlots) {
+        System.out.println("💒 Seeding " + count + " bookings...");
+        Map<String, Integer> capacities = venueAvailabilityService.getVenueCapacities();
+        List<LocalDate> dates = distribution.getDates();
+        LocalDate today = LocalDate.now();
+        int menuItemsMin = distribution.getInt("catering.menu.items.min");
+        int menuItemsMax = Math.max(menuItemsMin, distribution.getInt("catering.menu.items.max"));
+        double specialRequestRate = distribution.getDouble("special.requests.rate");
+        long[] active = new long[1];
+        long[] moved = new long[1];
+        long[] overflow = new long[1];
+        long[] menuItems = new long[1];
+
+        // Reservation keys are assigned by the booking's @PrePersist callback, released ones included.
+        // Each booking is followed by its menu item rows, which the stateless session does not cascade to.
+        bulkWriteService.insertAll(withMenuItems(generate(count, index -> {
+            String venue = distribution.pickVenue(random);
+            int dateIndex = distribution.pickDateIndex(random);
+            String status = distribution.pickStatus(random, dates.get(dateIndex).isBefore(today));
+            if (!Booking.STATUS_CANCELLED.equalsIgnoreCase(status)) {
+                BitSet taken = takenSlots.computeIfAbsent(venue, v -> new BitSet(dates.size()));
+                int free = taken.nextClearBit(dateIndex);
+                if (free >= dates.size()) {
+                    free = taken.nextClearBit(0);
+                }
+                if (free >= dates.size()) {
+                    // Venue fully booked over the whole range
+                    status = Booking.STATUS_CANCELLED;
+                    overflow[0]++;
+                } else {
+                    if (free != dateIndex) {
+                        moved[0]++;
+                        boolean wasPast = dates.get(dateIndex).isBefore(today);
+                        dateIndex = free;
+                        boolean past = dates.get(dateIndex).isBefore(today);
+                        if (past != wasPast) {
+                            status = past ? "Completed" : "Pending";
+                        }
+                    }
+                    taken.set(dateIndex);
+                    active[0]++;
+                }
+            }
+
+            int capacity = capacities.getOrDefault(venue, 500);
+            int guests = distribution.pickGuestCount(random, capacity);
+            String bride = FIRST_NAMES[random.nextInt(10)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String groom = FIRST_NAMES[10 + random.nextInt(10)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String cateringPackage = distribution.pickCateringPackage(random);
+            Booking booking = new Booking();
+            booking.setCustomerName(random.nextBoolean() ? bride : groom);
+            booking.setBrideName(bride);
+            booking.setGroomName(groom);
+            booking.setCustomerEmail(customerEmail(random.nextInt(userCount), runTag));
+            booking.setGuestCount(guests);
+            if (random.nextDouble() < specialRequestRate) {
+                booking.setSpecialRequests(SPECIAL_REQUESTS[random.nextInt(SPECIAL_REQUESTS.length)]);
+            }
+            booking.setVenue(venue);
+            booking.setWeddingDate(dates.get(dateIndex));
+            booking.setBookingStatus(status);
+            if (cateringPackage != null) {
+                booking.setCateringPackage(cateringPackage);
+                booking.setDietaryRequirements(distribution.pickDietaryRequirement(random));
+                booking.setEstimatedGuestCount(Math.min(capacity, guests + random.nextInt(21) - 10));
+                booking.selectMenus(pickMenus(random, menus,
+                    menuItemsMin + random.nextInt(menuItemsMax - menuItemsMin + 1)));
+                menuItems[0] += booking.getMenuItems().size();
+                if (!menuPlanIds.isEmpty()) {
+                    booking.setMenuPlanId(menuPlanIds.get(random.nextInt(menuPlanIds.size())));
+                }
+            }
+            return booking;
+        })), batchSize, "bookings and menu items");
+
+        if (overflow[0] > 0) {
+            System.out.println("⚠️ " + overflow[0] + " bookings stored as cancelled because their venue was fully booked;"
+                + " widen dates.years.past/ahead or add venues for more active bookings");
+        }
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("bookings", (long) count);
+        stats.put("activeBookings", active[0]);
+        stats.put("bookingsMovedToFreeDate", moved[0]);
+        stats.put("bookingsCancelledForFullVenue", overflow[0]);
+        stats.put("bookingMenuItems", menuItems[0]);
+        return stats;
+    }
+
+    /**
+     * Refuse a run whose expected active bookings exceed the free venue dates
+     * Past that point every further active booking would be stored as cancelled, skewing the status mix
+     * @throws IllegalArgumentException naming the free slots and the date range that would fit
+     */
+    private static void checkCapacity(int bookings, SeedDistribution distribution, Map<String, BitSet> takenSlots) {
+        List<String> venues = distribution.getVenues();
+        int dates = distribution.getDates().size();
+        long free = 0;
+        for (String venue : venues) {
+            BitSet taken = takenSlots.get(venue);
+            free += dates - (taken != null ? taken.cardinality() : 0);
+        }
+        double activeShare = distribution.getActiveShare(LocalDate.now());
+        long expectedActive = Math.round(bookings * activeShare);
+        if (expectedActive <= free) {
+            return;
+        }
+        int years = distribution.getInt("dates.years.past") + distribution.getInt("dates.years.ahead");
+        long yearsNeeded = (long) Math.ceil((double) years * (expectedActive + dates * venues.size() - free)
+            / ((double) dates * venues.size()));
+        throw new IllegalArgumentException(String.format(
+            "%,d bookings need about %,d active venue dates (%.0f%% not cancelled) but only %,d of %,d are free "
+                + "across %d venues over %d years. Lower the count, or set dates.years.past + dates.years.ahead "
+                + "to at least %d or add venues.",
+            bookings, expectedActive, activeShare * 100, free, (long) dates * venues.size(), venues.size(), years,
+            yearsNeeded));
+    }
+
+    // Slots held by bookings already stored, so this run's reservation keys cannot collide with them
+    private Map<String, BitSet> loadTakenSlots(List<LocalDate> dates) {
+        Map<LocalDate, Integer> positions = new HashMap<>();
+        LocalDate first = dates.get(0);
+        for (int i = 0; i < dates.size(); i++) {
+            positions.putIfAbsent(dates.get(i), i);
+            if (dates.get(i).isBefore(first)) {
+                first = dates.get(i);
+            }
+        }
+        Map<String, BitSet> taken = new HashMap<>();
+        long held = 0;
+        for (VenueReservationRow row : bookingRepository.findActiveReservations(first)) {
+            Integer position = positions.get(row.getWeddingDate());
+            if (row.getVenue() != null && position != null) {
+                taken.computeIfAbsent(row.getVenue(), v -> new BitSet(dates.size())).set(position);
+                held++;
+            }
+        }
+        if (held > 0) {
+            System.out.println("📅 " + held + " venue dates already booked, seeded bookings will avoid them");
+        }
+        return taken;
+    }
+
+    // Builds entities lazily so only one chunk is held in memory at a time
+    private static <T> Iterator<T> generate(int count, IntFunction<T> factory) {
+        return IntStream.range(0, count).mapToObj(factory).iterator();
+    }
+
+    private static Iterator<Object> withMenuItems(Iterator<Booking> bookings) {
+        Iterable<Booking> source = () -> bookings;
+        return StreamSupport.stream(source.spliterator(), false)
+            .flatMap(booking -> Stream.concat(Stream.of(booking), booking.getMenuItems().stream()))
+            .iterator();
+    }
+
+    private static String customerEmail(int index, String runTag) {
+        return "guest" + index + "." + runTag + "@seed.grandaura.test";
+    }
+
+    private static List<Menu> pickMenus(SplittableRandom random, List<Menu> menus, int count) {
+        List<Menu> picked = new ArrayList<>(count);
+        for (int i = 0; i < count && !menus.isEmpty(); i++) {
+            picked.add(menus.get(random.nextInt(menus.size())));
+        }
+        return picked;
+    }
+
+    private static String pickMenuItems(SplittableRandom random, List<String> menuNames, int count) {
+        if (menuNames.isEmpty() || count <= 0) {
+            return null;
+        }
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            String name = menuNames.get(random.nextInt(menuNames.size()));
+            if (items.length() + name.length() + 2 > 500) {
+                break;
+            }
+            if (items.length() > 0) {
+                items.append(", ");
+            }
+            items.append(name);
+        }
+        return items.toString();
+    }
+}
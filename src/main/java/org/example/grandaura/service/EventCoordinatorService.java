@@ -1,5 +1,8 @@
 package org.example.grandaura.service;
 
+import org.example.grandaura.dto.BookingDetailView;
+import org.example.grandaura.dto.BookingStatsSnapshot;
+import org.example.grandaura.dto.MonthlyReport;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.entity.EventCoordinator;
 import org.example.grandaura.repository.BookingRepository;
@@ -8,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,12 +25,24 @@ public class EventCoordinatorService {
 
     private final EventCoordinatorRepository eventCoordinatorRepository;
     private final BookingRepository bookingRepository;
+    private final BookingService bookingService;
+    private final BookingCounterService bookingCounterService;
+    private final MonthlyReportService monthlyReportService;
+    private final BookingDetailService bookingDetailService;
 
     @Autowired
     public EventCoordinatorService(EventCoordinatorRepository eventCoordinatorRepository, 
-                                   BookingRepository bookingRepository) {
+                                   BookingRepository bookingRepository,
+                                   BookingService bookingService,
+                                   BookingCounterService bookingCounterService,
+                                   MonthlyReportService monthlyReportService,
+                                   BookingDetailService bookingDetailService) {
         this.eventCoordinatorRepository = eventCoordinatorRepository;
         this.bookingRepository = bookingRepository;
+        this.bookingService = bookingService;
+        this.bookingCounterService = bookingCounterService;
+        this.monthlyReportService = monthlyReportService;
+        this.bookingDetailService = bookingDetailService;
     }
 
     // Event Coordinator Management Methods
@@ -75,116 +91,107 @@ public class EventCoordinatorService {
         return bookingRepository.findById(id);
     }
 
+    /**
+     * Get the booking detail page view: customer, date, venue, guests and requests
+     */
+    public Optional<BookingDetailView> getBookingDetail(Long id) {
+        return bookingDetailService.getBookingDetail(id, BookingDetailView.Scope.SUMMARY);
+    }
+
     /**
      * Get upcoming bookings (wedding date >= today)
      */
     public List<Booking> getUpcomingBookings() {
-        LocalDate today = LocalDate.now();
-        return bookingRepository.findAll().stream()
-                .filter(booking -> !booking.getWeddingDate().isBefore(today))
-                .toList();
+        return bookingRepository.findByWeddingDateGreaterThanEqualOrderByWeddingDateAsc(LocalDate.now());
     }
 
     /**
      * Get bookings by date range
      */
     public List<Booking> getBookingsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return bookingRepository.findAll().stream()
-                .filter(booking -> !booking.getWeddingDate().isBefore(startDate) 
-                        && !booking.getWeddingDate().isAfter(endDate))
-                .toList();
+        return bookingRepository.findByWeddingDateBetweenOrderByWeddingDateAsc(startDate, endDate);
     }
 
     /**
      * Get bookings by venue
      */
     public List<Booking> getBookingsByVenue(String venue) {
-        return bookingRepository.findAll().stream()
-                .filter(booking -> booking.getVenue().equals(venue))
-                .toList();
+        return bookingRepository.findByVenueOrderByWeddingDateAsc(venue);
     }
 
     /**
      * Get bookings with special requests
      */
     public List<Booking> getBookingsWithSpecialRequests() {
-        return bookingRepository.findAll().stream()
-                .filter(booking -> booking.getSpecialRequests() != null && !booking.getSpecialRequests().trim().isEmpty())
-                .toList();
+        return bookingRepository.findWithSpecialRequests();
+    }
+
+    /**
+     * Get the booking statistics snapshot (maintained counters plus the upcoming count)
+     */
+    public BookingStatsSnapshot getStatsSnapshot() {
+        return bookingService.getStatsSnapshot();
+    }
+
+    /**
+     * Get the cached monthly PDF report, regenerated only when that month's bookings changed
+     */
+    public MonthlyReport getMonthlyReport(YearMonth month) {
+        return monthlyReportService.getReport(month);
+    }
+
+    // Counter-only view for the figures that do not depend on today's date
+    private BookingStatsSnapshot getCounterSnapshot() {
+        return bookingCounterService.getStatsSnapshot(0);
     }
 
     /**
      * Get venue utilization statistics
      */
     public Map<String, Long> getVenueUtilization() {
-        return bookingRepository.findAll().stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        Booking::getVenue,
-                        java.util.stream.Collectors.counting()
-                ));
+        return getCounterSnapshot().getVenueUtilization();
     }
 
     /**
      * Get monthly booking statistics
      */
     public Map<String, Long> getMonthlyBookingStats() {
-        return bookingRepository.findAll().stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        booking -> booking.getWeddingDate().getMonth().toString(),
-                        java.util.stream.Collectors.counting()
-                ));
+        return getCounterSnapshot().getMonthlyStats();
     }
 
     /**
      * Get total number of bookings
      */
     public long getTotalBookings() {
-        return bookingRepository.count();
+        return bookingCounterService.getTotalBookings();
     }
 
     /**
      * Get total guest count across all bookings
      */
-    public int getTotalGuests() {
-        return bookingRepository.findAll().stream()
-                .mapToInt(Booking::getGuestCount)
-                .sum();
+    public long getTotalGuests() {
+        return bookingCounterService.getTotalGuests();
     }
 
     /**
      * Get average guest count per booking
      */
     public double getAverageGuestCount() {
-        return bookingRepository.findAll().stream()
-                .mapToInt(Booking::getGuestCount)
-                .average()
-                .orElse(0.0);
+        return getCounterSnapshot().getAverageGuestCount();
     }
 
     /**
      * Get most popular venue
      */
     public String getMostPopularVenue() {
-        return getVenueUtilization().entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse("No bookings yet");
+        return getCounterSnapshot().getMostPopularVenue();
     }
 
     /**
      * Get event coordination statistics
      */
     public Map<String, Object> getEventCoordinationStatistics() {
-        return Map.of(
-                "totalBookings", getTotalBookings(),
-                "totalGuests", getTotalGuests(),
-                "averageGuestCount", getAverageGuestCount(),
-                "upcomingBookings", getUpcomingBookings().size(),
-                "mostPopularVenue", getMostPopularVenue(),
-                "venueUtilization", getVenueUtilization(),
-                "monthlyStats", getMonthlyBookingStats(),
-                "bookingsWithSpecialRequests", getBookingsWithSpecialRequests().size()
-        );
+        return getStatsSnapshot().toMap();
     }
 
     /**
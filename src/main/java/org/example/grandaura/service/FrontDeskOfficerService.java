@@ -1,5 +1,8 @@
 package org.example.grandaura.service;
 
+import org.example.grandaura.dto.BookingDetailView;
+import org.example.grandaura.dto.BookingPage;
+import org.example.grandaura.dto.BookingPageRequest;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.entity.FrontDeskOfficer;
 import org.example.grandaura.entity.UserAccount;
@@ -23,14 +26,23 @@ public class FrontDeskOfficerService {
     private final FrontDeskOfficerRepository frontDeskOfficerRepository;
     private final BookingRepository bookingRepository;
     private final UserAccountRepository userAccountRepository;
+    private final BookingService bookingService;
+    private final BookingCounterService bookingCounterService;
+    private final BookingDetailService bookingDetailService;
 
     @Autowired
     public FrontDeskOfficerService(FrontDeskOfficerRepository frontDeskOfficerRepository,
                                   BookingRepository bookingRepository,
-                                  UserAccountRepository userAccountRepository) {
+                                  UserAccountRepository userAccountRepository,
+                                  BookingService bookingService,
+                                  BookingCounterService bookingCounterService,
+                                  BookingDetailService bookingDetailService) {
         this.frontDeskOfficerRepository = frontDeskOfficerRepository;
         this.bookingRepository = bookingRepository;
         this.userAccountRepository = userAccountRepository;
+        this.bookingService = bookingService;
+        this.bookingCounterService = bookingCounterService;
+        this.bookingDetailService = bookingDetailService;
     }
 
     // Front Desk Officer Management
@@ -57,25 +69,59 @@ public class FrontDeskOfficerService {
         return bookingRepository.findAll();
     }
 
-    public List<Booking> getTodaysCheckIns() {
+    public BookingPage getBookingPage(BookingPageRequest request) {
+        return bookingService.getBookingPage(request);
+    }
+
+    /**
+     * Totals for the bookings listing, restricted to a single date when one is given
+     */
+    public Map<String, Object> getBookingListStatistics(LocalDate date) {
+        Map<String, Object> stats = new HashMap<>();
         LocalDate today = LocalDate.now();
-        return bookingRepository.findAll().stream()
-                .filter(booking -> booking.getWeddingDate().isEqual(today))
-                .collect(Collectors.toList());
+        LocalDate windowStart = today.plusDays(1);
+        LocalDate windowEnd = today.plusDays(7);
+
+        long totalBookings;
+        long totalGuests;
+        long upcomingCount;
+        if (date != null) {
+            totalBookings = bookingRepository.countByWeddingDate(date);
+            totalGuests = bookingRepository.sumGuestCountByWeddingDateBetween(date, date);
+            upcomingCount = date.isBefore(windowStart) || date.isAfter(windowEnd) ? 0 : totalBookings;
+        } else {
+            totalBookings = bookingCounterService.getTotalBookings();
+            totalGuests = bookingCounterService.getTotalGuests();
+            upcomingCount = bookingRepository.countByWeddingDateBetween(windowStart, windowEnd);
+        }
+
+        stats.put("totalBookings", totalBookings);
+        stats.put("totalGuests", totalGuests);
+        stats.put("avgGuestCount", totalBookings > 0 ? totalGuests / totalBookings : 0);
+        stats.put("upcomingCount", upcomingCount);
+        return stats;
+    }
+
+    public List<Booking> getTodaysCheckIns() {
+        return bookingRepository.findByWeddingDateOrderByIdAsc(LocalDate.now());
     }
 
     public List<Booking> getUpcomingBookings() {
-        LocalDate today = LocalDate.now();
-        return bookingRepository.findAll().stream()
-                .filter(booking -> booking.getWeddingDate().isAfter(today))
-                .sorted(Comparator.comparing(Booking::getWeddingDate))
-                .collect(Collectors.toList());
+        return bookingRepository.findByWeddingDateAfterOrderByWeddingDateAsc(LocalDate.now());
+    }
+
+    public List<Booking> getBookingsForCustomer(String customerEmail) {
+        return bookingRepository.findByCustomerEmailOrderByWeddingDateAsc(customerEmail);
     }
 
     public Optional<Booking> getBookingById(Long id) {
         return bookingRepository.findById(id);
     }
 
+    public Optional<BookingDetailView> getBookingDetail(Long id) {
+        return bookingDetailService.getBookingDetail(id, BookingDetailView.Scope.FULL);
+    }
+
     public Booking updateBooking(Booking booking) {
         return bookingRepository.save(booking);
     }
@@ -158,30 +204,25 @@ public class FrontDeskOfficerService {
     public Map<String, Object> getDashboardStatistics() {
         Map<String, Object> stats = new HashMap<>();
         
-        List<Booking> allBookings = getAllBookings();
         LocalDate today = LocalDate.now();
         
         // Today's check-ins
-        long todaysCheckIns = allBookings.stream()
-                .filter(b -> b.getWeddingDate().isEqual(today))
-                .count();
+        long todaysCheckIns = bookingRepository.countByWeddingDate(today);
         
         // Upcoming bookings (next 7 days)
-        long upcomingBookings = allBookings.stream()
-                .filter(b -> b.getWeddingDate().isAfter(today) && 
-                           b.getWeddingDate().isBefore(today.plusDays(8)))
-                .count();
+        long upcomingBookings = bookingRepository.countByWeddingDateBetween(today.plusDays(1), today.plusDays(7));
         
         // Total active customers
         long totalCustomers = userAccountRepository.count();
         
-        // Total bookings
-        long totalBookings = allBookings.size();
+        // Total bookings and status breakdown from the maintained counters
+        long totalBookings = bookingCounterService.getTotalBookings();
         
         stats.put("todaysCheckIns", todaysCheckIns);
         stats.put("upcomingBookings", upcomingBookings);
         stats.put("totalCustomers", totalCustomers);
         stats.put("totalBookings", totalBookings);
+        stats.put("statusCounts", bookingCounterService.getStatusCounts());
         
         return stats;
     }
@@ -195,17 +236,10 @@ public class FrontDeskOfficerService {
         LocalDate weekFromNow = today.plusDays(7);
         
         // Today's check-ins
-        List<Booking> todaysBookings = getAllBookings().stream()
-                .filter(b -> b.getWeddingDate() != null && b.getWeddingDate().isEqual(today))
-                .collect(Collectors.toList());
+        List<Booking> todaysBookings = bookingRepository.findByWeddingDateOrderByIdAsc(today);
         
         // Upcoming bookings (next 7 days, excluding today)
-        List<Booking> upcomingBookings = getAllBookings().stream()
-                .filter(b -> b.getWeddingDate() != null && 
-                           b.getWeddingDate().isAfter(today) && 
-                           b.getWeddingDate().isBefore(weekFromNow.plusDays(1)))
-                .sorted(Comparator.comparing(Booking::getWeddingDate))
-                .collect(Collectors.toList());
+        List<Booking> upcomingBookings = bookingRepository.findByWeddingDateBetweenOrderByWeddingDateAsc(today.plusDays(1), weekFromNow);
         
         data.put("todaysBookings", todaysBookings);
         data.put("upcomingBookings", upcomingBookings);
@@ -218,9 +252,7 @@ public class FrontDeskOfficerService {
     public Map<String, Object> getBookingsByDate(LocalDate date) {
         Map<String, Object> data = new HashMap<>();
         
-        List<Booking> bookings = bookingRepository.findAll().stream()
-                .filter(b -> b.getWeddingDate().isEqual(date))
-                .collect(Collectors.toList());
+        List<Booking> bookings = bookingRepository.findByWeddingDateOrderByIdAsc(date);
         
         data.put("bookings", bookings);
         data.put("date", date);
@@ -1,5 +1,10 @@
 package org.example.grandaura.service;
 
+import org.example.grandaura.dto.BookingDetailView;
+import org.example.grandaura.dto.BookingExportFilter;
+import org.example.grandaura.dto.BookingPage;
+import org.example.grandaura.dto.BookingPageRequest;
+import org.example.grandaura.dto.BookingStatsSnapshot;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.entity.HotelOwner;
 import org.example.grandaura.repository.BookingRepository;
@@ -7,6 +12,9 @@ import org.example.grandaura.repository.HotelOwnerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -21,11 +29,22 @@ public class HotelOwnerService {
 
     private final HotelOwnerRepository hotelOwnerRepository;
     private final BookingRepository bookingRepository;
+    private final BookingService bookingService;
+    private final BookingCounterService bookingCounterService;
+    private final BookingExportService bookingExportService;
+    private final BookingDetailService bookingDetailService;
 
     @Autowired
-    public HotelOwnerService(HotelOwnerRepository hotelOwnerRepository, BookingRepository bookingRepository) {
+    public HotelOwnerService(HotelOwnerRepository hotelOwnerRepository, BookingRepository bookingRepository,
+                             BookingService bookingService, BookingCounterService bookingCounterService,
+                             BookingExportService bookingExportService,
+                             BookingDetailService bookingDetailService) {
         this.hotelOwnerRepository = hotelOwnerRepository;
         this.bookingRepository = bookingRepository;
+        this.bookingService = bookingService;
+        this.bookingCounterService = bookingCounterService;
+        this.bookingExportService = bookingExportService;
+        this.bookingDetailService = bookingDetailService;
     }
 
     // Hotel Owner Management Methods
@@ -67,6 +86,13 @@ public class HotelOwnerService {
         return bookingRepository.findAll();
     }
 
+    /**
+     * Get one keyset page of bookings matching the request filters
+     */
+    public BookingPage getBookingPage(BookingPageRequest request) {
+        return bookingService.getBookingPage(request);
+    }
+
     /**
      * Get booking by ID
      */
@@ -74,6 +100,13 @@ public class HotelOwnerService {
         return bookingRepository.findById(id);
     }
 
+    /**
+     * Get the booking detail page view: customer, date, venue, guests and requests
+     */
+    public Optional<BookingDetailView> getBookingDetail(Long id) {
+        return bookingDetailService.getBookingDetail(id, BookingDetailView.Scope.SUMMARY);
+    }
+
     /**
      * Save or update booking
      */
@@ -92,77 +125,89 @@ public class HotelOwnerService {
      * Get total number of bookings
      */
     public long getTotalBookings() {
-        return bookingRepository.count();
+        return bookingCounterService.getTotalBookings();
     }
 
     /**
      * Get total guest count across all bookings
      */
-    public int getTotalGuests() {
-        return bookingRepository.findAll().stream()
-                .mapToInt(Booking::getGuestCount)
-                .sum();
+    public long getTotalGuests() {
+        return bookingCounterService.getTotalGuests();
     }
 
     /**
      * Get bookings by venue
      */
     public List<Booking> getBookingsByVenue(String venue) {
-        return bookingRepository.findAll().stream()
-                .filter(booking -> booking.getVenue().equals(venue))
-                .toList();
+        return bookingRepository.findByVenueOrderByWeddingDateAsc(venue);
     }
 
     /**
      * Get bookings by date range
      */
     public List<Booking> getBookingsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return bookingRepository.findAll().stream()
-                .filter(booking -> !booking.getWeddingDate().isBefore(startDate) 
-                        && !booking.getWeddingDate().isAfter(endDate))
-                .toList();
+        return bookingRepository.findByWeddingDateBetweenOrderByWeddingDateAsc(startDate, endDate);
     }
 
     /**
      * Get upcoming bookings (wedding date >= today)
      */
     public List<Booking> getUpcomingBookings() {
-        LocalDate today = LocalDate.now();
-        return bookingRepository.findAll().stream()
-                .filter(booking -> !booking.getWeddingDate().isBefore(today))
-                .toList();
+        return bookingRepository.findByWeddingDateGreaterThanEqualOrderByWeddingDateAsc(LocalDate.now());
+    }
+
+    /**
+     * Get the booking statistics snapshot (maintained counters plus the upcoming count)
+     */
+    public BookingStatsSnapshot getStatsSnapshot() {
+        return bookingService.getStatsSnapshot();
+    }
+
+    // Counter-only view for the figures that do not depend on today's date
+    private BookingStatsSnapshot getCounterSnapshot() {
+        return bookingCounterService.getStatsSnapshot(0);
+    }
+
+    /**
+     * Get recently created bookings
+     */
+    public List<Booking> getRecentBookings() {
+        return bookingRepository.findTop10ByOrderByIdDesc();
+    }
+
+    /**
+     * Stream the filtered bookings to the writer as CSV, returning the number of rows written
+     */
+    public long exportBookingsCsv(BookingExportFilter filter, Writer writer) throws IOException {
+        return bookingExportService.writeCsv(filter, writer);
+    }
+
+    /**
+     * Stream the filtered bookings to the output as an XLSX workbook, returning the number of rows written
+     */
+    public long exportBookingsXlsx(BookingExportFilter filter, OutputStream out) throws IOException {
+        return bookingExportService.writeXlsx(filter, out);
     }
 
     /**
      * Get venue utilization statistics
      */
     public Map<String, Long> getVenueUtilization() {
-        return bookingRepository.findAll().stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        Booking::getVenue,
-                        java.util.stream.Collectors.counting()
-                ));
+        return getCounterSnapshot().getVenueUtilization();
     }
 
     /**
      * Get monthly booking statistics
      */
     public Map<String, Long> getMonthlyBookingStats() {
-        return bookingRepository.findAll().stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        booking -> booking.getWeddingDate().getMonth().toString(),
-                        java.util.stream.Collectors.counting()
-                ));
+        return getCounterSnapshot().getMonthlyStats();
     }
 
     /**
      * Get average guest count per booking
      */
     public double getAverageGuestCount() {
-        return bookingRepository.findAll().stream()
-                .mapToInt(Booking::getGuestCount)
-                .average()
-                .orElse(0.0);
+        return getCounterSnapshot().getAverageGuestCount();
     }
 
     /**
@@ -176,24 +221,13 @@ public class HotelOwnerService {
      * Get most popular venue
      */
     public String getMostPopularVenue() {
-        return getVenueUtilization().entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse("No bookings yet");
+        return getCounterSnapshot().getMostPopularVenue();
     }
 
     /**
      * Get booking statistics summary
      */
     public Map<String, Object> getBookingStatistics() {
-        return Map.of(
-                "totalBookings", getTotalBookings(),
-                "totalGuests", getTotalGuests(),
-                "averageGuestCount", getAverageGuestCount(),
-                "upcomingBookings", getUpcomingBookings().size(),
-                "mostPopularVenue", getMostPopularVenue(),
-                "venueUtilization", getVenueUtilization(),
-                "monthlyStats", getMonthlyBookingStats()
-        );
+        return getStatsSnapshot().toMap();
     }
 }
@@ -0,0 +1,95 @@
+package org.example.grandaura.service;
+
+import org.example.grandaura.dto.MenuCatalog;
+import org.example.grandaura.dto.MenuSuggestion;
+import org.example.grandaura.entity.Menu;
+import org.example.grandaura.repository.MenuPlanRepository;
+import org.example.grandaura.repository.MenuRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Service serving the menu catalog from memory
+ * The catalog is rebuilt and swapped in atomically after every menu or menu plan change made
+ * through CateringManagerService, so page renders read it without querying the database. Each new
+ * catalog is also handed to the menu search index, which re-indexes only the menus that changed.
+ */
+@Service
+public class MenuCatalogService {
+
+    private final MenuRepository menuRepository;
+    private final MenuPlanRepository menuPlanRepository;
+    private final MenuSearchService menuSearchService;
+    private volatile MenuCatalog catalog;
+
+    @Autowired
+    public MenuCatalogService(MenuRepository menuRepository, MenuPlanRepository menuPlanRepository,
+                              MenuSearchService menuSearchService) {
+        this.menuRepository = menuRepository;
+        this.menuPlanRepository = menuPlanRepository;
+        this.menuSearchService = menuSearchService;
+    }
+
+    /**
+     * Load the first catalog once startup data has been seeded
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCatalog() {
+        reload();
+    }
+
+    /**
+     * Get the current catalog snapshot
+     */
+    public MenuCatalog getCatalog() {
+        MenuCatalog current = catalog;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * Get the menus matching a search of their name, description, dietary info and allergens, best match first
+     */
+    public List<Menu> searchMenus(String query) {
+        getCatalog();
+        return menuSearchService.search(query);
+    }
+
+    /**
+     * Get the search box suggestions for a partly typed query
+     */
+    public List<MenuSuggestion> suggestMenus(String query) {
+        getCatalog();
+        return menuSearchService.autocomplete(query);
+    }
+
+    /**
+     * Rebuild the catalog after a menu change, once the surrounding transaction (if any) has committed
+     */
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    // Serialised so versions only ever increase and a slower reload cannot overwrite a newer one
+    private synchronized MenuCatalog reload() {
+        long nextVersion = catalog != null ? catalog.getVersion() + 1 : 1;
+        MenuCatalog loaded = new MenuCatalog(nextVersion, menuRepository.findAll(), menuPlanRepository.findAll());
+        menuSearchService.index(loaded.getMenus());
+        catalog = loaded;
+        return loaded;
+    }
+}
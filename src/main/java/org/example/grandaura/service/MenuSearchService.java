@@ -0,0 +1,478 @@
+package org.example.grandaura.service;
+
+import org.example.grandaura.dto.MenuSuggestion;
+import org.example.grandaura.entity.Menu;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory search over the name, description, dietary info and allergens of every menu
+ * Each word of those fields is kept in a prefix trie, so a query word matches the words it starts
+ * (search as you type), and in a trigram index, so a misspelt query word still finds words within one
+ * or two edits. Every query word must match; menus are ranked by how well each word matched and in
+ * which field, a name hit counting most. {@link MenuCatalogService} hands every rebuilt catalog to
+ * {@link #index(Collection)}, which re-indexes only the menus whose searchable text changed.
+ */
+@Service
+public class MenuSearchService {
+
+    public static final int AUTOCOMPLETE_LIMIT = 8;
+
+    // Field weights, a word in the name outranks one in the dietary info, allergens or description
+    private static final float NAME = 4f;
+    private static final float DIETARY_INFO = 2f;
+    private static final float ALLERGENS = 2f;
+    private static final float DESCRIPTION = 1f;
+
+    // Match quality of a query word: the word itself, a word it starts, a word within the allowed edits,
+    // a word starting within the allowed edits of it (a typo in a half-typed word)
+    private static final float EXACT = 1f;
+    private static final float PREFIX = 0.8f;
+    private static final float TYPO = 0.6f;
+    private static final float PREFIX_TYPO = 0.5f;
+
+    // Shorter query words only match exactly or as a prefix, too many words are one edit from them
+    private static final int MIN_TYPO_LENGTH = 4;
+    private static final double MIN_TRIGRAM_SIMILARITY = 0.3;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{Alnum}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedMenu> menus = new HashMap<>();
+    // Menus are numbered densely so a query scores them in plain arrays; numbers of removed menus are reused
+    private final List<IndexedMenu> documents = new ArrayList<>();
+    private final Deque<Integer> freeDocuments = new ArrayDeque<>();
+    // Position of each menu number in name order, the tie-break between equal scores
+    private int[] nameOrder = new int[0];
+    // word -> menus containing it, each with the weight of the best field the word appears in
+    private final Map<String, Postings> postings = new HashMap<>();
+    // trigram -> words containing it, padded so that first and last letters form trigrams of their own
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    private final TrieNode trie = new TrieNode();
+
+    /**
+     * Bring the index in line with the given menus: new and changed menus are (re-)indexed, missing ones
+     * dropped, and unchanged ones only have their snapshot replaced. Returns the number of menus re-indexed
+     */
+    public int index(Collection<Menu> current) {
+        lock.writeLock().lock();
+        try {
+            int changed = 0;
+            Set<Long> seen = new HashSet<>();
+            for (Menu menu : current) {
+                if (menu.getId() == null) {
+                    continue;
+                }
+                seen.add(menu.getId());
+                String fingerprint = fingerprint(menu);
+                IndexedMenu previous = menus.get(menu.getId());
+                if (previous != null && previous.fingerprint().equals(fingerprint)) {
+                    store(new IndexedMenu(previous.document(), menu, fingerprint, previous.words()));
+                    continue;
+                }
+                int document;
+                if (previous != null) {
+                    document = previous.document();
+                    unindex(previous);
+                } else {
+                    document = freeDocuments.isEmpty() ? documents.size() : freeDocuments.pop();
+                }
+                Map<String, Float> words = wordsOf(menu);
+                words.forEach((word, weight) -> addPosting(word, document, weight));
+                store(new IndexedMenu(document, menu, fingerprint, words));
+                changed++;
+            }
+            for (Long id : new ArrayList<>(menus.keySet())) {
+                if (!seen.contains(id)) {
+                    IndexedMenu removed = menus.remove(id);
+                    unindex(removed);
+                    documents.set(removed.document(), null);
+                    freeDocuments.push(removed.document());
+                    changed++;
+                }
+            }
+            nameOrder = nameOrder();
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the menus matching every word of the query, best match first
+     */
+    public List<Menu> search(String query) {
+        return rank(query, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get the top few matches for a partly typed query, for the search box's suggestions
+     */
+    public List<MenuSuggestion> autocomplete(String query) {
+        return rank(query, AUTOCOMPLETE_LIMIT).stream().map(MenuSuggestion::of).toList();
+    }
+
+    public int getIndexedMenuCount() {
+        lock.readLock().lock();
+        try {
+            return menus.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getIndexedWordCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Menu> rank(String query, int limit) {
+        Set<String> queryWords = new LinkedHashSet<>(tokenize(query));
+        if (queryWords.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int count = documents.size();
+            float[] scores = new float[count];
+            int[] matched = new int[count];
+            float[] wordScores = new float[count];
+            for (String queryWord : queryWords) {
+                Arrays.fill(wordScores, 0f);
+                expand(queryWord).forEach((word, quality) -> postings.get(word).scoreInto(wordScores, quality));
+                boolean any = false;
+                for (int document = 0; document < count; document++) {
+                    if (wordScores[document] > 0f) {
+                        scores[document] += wordScores[document];
+                        matched[document]++;
+                        any = true;
+                    }
+                }
+                if (!any) {
+                    return List.of();
+                }
+            }
+            // Every query word has to match; the heap's head is the worst of the best matches kept so far
+            int[] order = nameOrder;
+            Comparator<Integer> ranking = Comparator.<Integer>comparingDouble(document -> scores[document]).reversed()
+                    .thenComparingInt(document -> order[document]);
+            PriorityQueue<Integer> best = new PriorityQueue<>(ranking.reversed());
+            for (int document = 0; document < count; document++) {
+                if (matched[document] == queryWords.size()) {
+                    best.offer(document);
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+            List<Integer> ranked = new ArrayList<>(best);
+            ranked.sort(ranking);
+            return ranked.stream().map(document -> documents.get(document).menu()).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Indexed words a query word matches, with the quality of each match
+    private Map<String, Float> expand(String queryWord) {
+        Map<String, Float> matches = new HashMap<>();
+        if (postings.containsKey(queryWord)) {
+            matches.put(queryWord, EXACT);
+        }
+        for (String word : trie.wordsStartingWith(queryWord, MAX_PREFIX_EXPANSIONS)) {
+            matches.putIfAbsent(word, PREFIX);
+        }
+        if (!matches.containsKey(queryWord) && queryWord.length() >= MIN_TYPO_LENGTH) {
+            int maxEdits = queryWord.length() <= 5 ? 1 : 2;
+            List<String> queryTrigrams = trigramsOf(queryWord);
+            // A word has as many padded trigrams as letters, so this is the Dice similarity of the two sets
+            Map<String, Integer> shared = new HashMap<>();
+            for (String trigram : queryTrigrams) {
+                Set<String> words = trigrams.get(trigram);
+                if (words != null) {
+                    words.forEach(word -> shared.merge(word, 1, Integer::sum));
+                }
+            }
+            shared.forEach((word, count) -> {
+                double similarity = 2.0 * count / (queryTrigrams.size() + word.length());
+                if (similarity >= MIN_TRIGRAM_SIMILARITY && !matches.containsKey(word)) {
+                    int edits = editDistance(queryWord, word, maxEdits, false);
+                    if (edits <= maxEdits) {
+                        matches.put(word, TYPO * (1f - (float) edits / (queryWord.length() + 1)));
+                        return;
+                    }
+                    edits = editDistance(queryWord, word, maxEdits, true);
+                    if (edits <= maxEdits) {
+                        matches.put(word, PREFIX_TYPO * (1f - (float) edits / (queryWord.length() + 1)));
+                    }
+                }
+            });
+        }
+        return matches;
+    }
+
+    private int[] nameOrder() {
+        List<IndexedMenu> byName = documents.stream()
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(IndexedMenu::sortName).thenComparing(indexed -> indexed.menu().getId()))
+                .toList();
+        int[] order = new int[documents.size()];
+        for (int position = 0; position < byName.size(); position++) {
+            order[byName.get(position).document()] = position;
+        }
+        return order;
+    }
+
+    private void store(IndexedMenu indexed) {
+        menus.put(indexed.menu().getId(), indexed);
+        if (indexed.document() == documents.size()) {
+            documents.add(indexed);
+        } else {
+            documents.set(indexed.document(), indexed);
+        }
+    }
+
+    private void addPosting(String word, int document, float weight) {
+        postings.computeIfAbsent(word, w -> {
+            trie.add(w);
+            trigramsOf(w).forEach(trigram -> trigrams.computeIfAbsent(trigram, t -> new HashSet<>()).add(w));
+            return new Postings();
+        }).add(document, weight);
+    }
+
+    private void unindex(IndexedMenu indexed) {
+        for (String word : indexed.words().keySet()) {
+            Postings documentsWithWord = postings.get(word);
+            if (documentsWithWord == null) {
+                continue;
+            }
+            documentsWithWord.remove(indexed.document());
+            if (documentsWithWord.isEmpty()) {
+                postings.remove(word);
+                trie.remove(word);
+                for (String trigram : trigramsOf(word)) {
+                    Set<String> containing = trigrams.get(trigram);
+                    if (containing != null && containing.remove(word) && containing.isEmpty()) {
+                        trigrams.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Map<String, Float> wordsOf(Menu menu) {
+        Map<String, Float> words = new LinkedHashMap<>();
+        addWords(words, menu.getName(), NAME);
+        addWords(words, menu.getDietaryInfo(), DIETARY_INFO);
+        addWords(words, menu.getAllergens(), ALLERGENS);
+        addWords(words, menu.getDescription(), DESCRIPTION);
+        return words;
+    }
+
+    private static void addWords(Map<String, Float> words, String text, float weight) {
+        for (String word : tokenize(text)) {
+            words.merge(word, weight, Math::max);
+        }
+    }
+
+    private static String fingerprint(Menu menu) {
+        return String.join("\u0000", Objects.toString(menu.getName(), ""), Objects.toString(menu.getDescription(), ""),
+                Objects.toString(menu.getDietaryInfo(), ""), Objects.toString(menu.getAllergens(), ""));
+    }
+
+    // Lower case words without accents, split on anything but letters and digits ("Gluten-Free" is two words)
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String plain = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        List<String> words = new ArrayList<>();
+        for (String word : NON_WORD.split(plain.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static List<String> trigramsOf(String word) {
+        String padded = "$" + word + "$";
+        List<String> result = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            result.add(padded.substring(i, i + 3));
+        }
+        return result;
+    }
+
+    // Edits (insert, delete, substitute, swap two neighbours) turning a into b, or into the closest start of b
+    // when prefix is set; max + 1 as soon as the result is known to exceed max
+    static int editDistance(String a, String b, int max, boolean prefix) {
+        if (prefix ? b.length() < a.length() - max : Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] row = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            row[0] = i;
+            int rowMin = row[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                row[j] = Math.min(Math.min(row[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    row[j] = Math.min(row[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, row[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = row;
+            row = recycled;
+        }
+        if (!prefix) {
+            return previous[b.length()];
+        }
+        int closest = max + 1;
+        for (int edits : previous) {
+            closest = Math.min(closest, edits);
+        }
+        return closest;
+    }
+
+    private record IndexedMenu(int document, Menu menu, String fingerprint, Map<String, Float> words) {
+        String sortName() {
+            return menu.getName() != null ? menu.getName().toLowerCase(Locale.ROOT) : "";
+        }
+    }
+
+    // Menus containing one word, as parallel arrays of menu numbers and field weights
+    private static final class Postings {
+        private int[] documents = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        // A menu's words are distinct, so a menu is only ever added once per word
+        void add(int document, float weight) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            documents[size] = document;
+            weights[size] = weight;
+            size++;
+        }
+
+        void remove(int document) {
+            for (int i = 0; i < size; i++) {
+                if (documents[i] == document) {
+                    size--;
+                    documents[i] = documents[size];
+                    weights[i] = weights[size];
+                    return;
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void scoreInto(float[] scores, float quality) {
+            for (int i = 0; i < size; i++) {
+                float score = quality * weights[i];
+                if (score > scores[documents[i]]) {
+                    scores[documents[i]] = score;
+                }
+            }
+        }
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new TreeMap<>();
+        private boolean word;
+
+        void add(String text) {
+            TrieNode node = this;
+            for (int i = 0; i < text.length(); i++) {
+                node = node.children.computeIfAbsent(text.charAt(i), c -> new TrieNode());
+            }
+            node.word = true;
+        }
+
+        // Unmarks the word and prunes the branches left without words
+        boolean remove(String text) {
+            return remove(text, 0);
+        }
+
+        private boolean remove(String text, int depth) {
+            if (depth == text.length()) {
+                word = false;
+            } else {
+                TrieNode child = children.get(text.charAt(depth));
+                if (child != null && child.remove(text, depth + 1)) {
+                    children.remove(text.charAt(depth));
+                }
+            }
+            return !word && children.isEmpty();
+        }
+
+        // Words longer than the prefix in alphabetical order, at most max of them
+        List<String> wordsStartingWith(String prefix, int max) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            List<String> found = new ArrayList<>();
+            if (node != null) {
+                node.collect(new StringBuilder(prefix), prefix.length(), found, max);
+            }
+            return found;
+        }
+
+        private void collect(StringBuilder path, int prefixLength, List<String> found, int max) {
+            if (word && path.length() > prefixLength) {
+                found.add(path.toString());
+            }
+            for (Map.Entry<Character, TrieNode> child : children.entrySet()) {
+                if (found.size() >= max) {
+                    return;
+                }
+                path.append(child.getKey());
+                child.getValue().collect(path, prefixLength, found, max);
+                path.setLength(path.length() - 1);
+            }
+        }
+    }
+}
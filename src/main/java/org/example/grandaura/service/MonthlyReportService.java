@@ -0,0 +1,377 @@
+package org.example.grandaura.service;
+
+import com.itextpdf.kernel.colors.Color;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.colors.DeviceRgb;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.draw.SolidLine;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.LineSeparator;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.TextAlignment;
+import jakarta.annotation.PreDestroy;
+import org.example.grandaura.dto.MonthlyReport;
+import org.example.grandaura.entity.Booking;
+import org.example.grandaura.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service that generates the monthly event coordinator PDF reports in the background and keeps them cached
+ * Every calendar month has a revision that {@link BookingChangeListener} bumps after a commit touches
+ * one of its bookings. A cached report is served as long as its revision is current; otherwise the
+ * month is regenerated on the report thread and concurrent requests share the same generation.
+ * Only months within a fixed window around today can be requested, and only the most recently used
+ * reports stay cached; a month's revision is dropped together with its report.
+ */
+@Service
+public class MonthlyReportService {
+
+    /** Months ahead of the current one that are generated when the application starts */
+    private static final int PREGENERATED_MONTHS = 3;
+    private static final long GENERATION_TIMEOUT_SECONDS = 30;
+    static final int MAX_CACHED_REPORTS = 24;
+    static final int MAX_MONTHS_BACK = 120;
+    static final int MAX_MONTHS_AHEAD = 60;
+
+    private static final DateTimeFormatter MONTH_TITLE = DateTimeFormatter.ofPattern("MMMM yyyy");
+    private static final DateTimeFormatter EVENT_DATE = DateTimeFormatter.ofPattern("EEE, MMM dd");
+    private static final DateTimeFormatter GENERATED_AT = DateTimeFormatter.ofPattern("MMMM dd, yyyy HH:mm");
+
+    private final BookingRepository bookingRepository;
+    private final Map<YearMonth, MonthlyReport> reports = Collections.synchronizedMap(
+            new LinkedHashMap<>(32, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<YearMonth, MonthlyReport> eldest) {
+                    if (size() <= MAX_CACHED_REPORTS) {
+                        return false;
+                    }
+                    // A generation still running keeps the revision it will be compared against
+                    if (!inFlight.containsKey(eldest.getKey())) {
+                        revisions.remove(eldest.getKey());
+                    }
+                    return true;
+                }
+            });
+    private final Map<YearMonth, AtomicLong> revisions = new ConcurrentHashMap<>();
+    private final Map<YearMonth, CompletableFuture<MonthlyReport>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService generator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "monthly-report");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public MonthlyReportService(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    /**
+     * Generate the reports for the current and next few months once the application is up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void pregenerateReports() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= PREGENERATED_MONTHS; i++) {
+            requestGeneration(current.plusMonths(i));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        generator.shutdownNow();
+    }
+
+    /**
+     * Record that a booking moved between wedding dates (null for none)
+     * The affected months are invalidated after the surrounding transaction commits
+     */
+    public void record(LocalDate previousDate, LocalDate currentDate) {
+        Set<YearMonth> months = new LinkedHashSet<>();
+        if (previousDate != null) months.add(YearMonth.from(previousDate));
+        if (currentDate != null) months.add(YearMonth.from(currentDate));
+        if (months.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    months.forEach(MonthlyReportService.this::invalidate);
+                }
+            });
+        } else {
+            months.forEach(this::invalidate);
+        }
+    }
+
+    /**
+     * Mark a month's report stale and regenerate it in the background if it had been generated before
+     */
+    public void invalidate(YearMonth month) {
+        // Months never generated have no revision to bump; their first report reads the bookings anyway
+        AtomicLong revision = revisions.get(month);
+        if (revision != null) {
+            revision.incrementAndGet();
+        }
+        if (reports.containsKey(month)) {
+            requestGeneration(month);
+        }
+    }
+
+    /**
+     * Mark every cached report stale, for bulk changes that bypass the booking listener
+     */
+    public void invalidateAll() {
+        List<YearMonth> months;
+        synchronized (reports) {
+            months = List.copyOf(reports.keySet());
+        }
+        for (YearMonth month : months) {
+            invalidate(month);
+        }
+    }
+
+    /**
+     * Whether reports can be requested for the month: at most MAX_MONTHS_BACK before and
+     * MAX_MONTHS_AHEAD after the current one
+     */
+    public static boolean isReportable(YearMonth month) {
+        YearMonth current = YearMonth.now();
+        return !month.isBefore(current.minusMonths(MAX_MONTHS_BACK)) && !month.isAfter(current.plusMonths(MAX_MONTHS_AHEAD));
+    }
+
+    /**
+     * Get the report for a month, waiting for the background generation if the cached one is stale
+     * @throws IllegalArgumentException if the month is outside the reportable window
+     */
+    public MonthlyReport getReport(YearMonth month) {
+        if (!isReportable(month)) {
+            throw new IllegalArgumentException("No reports for " + month);
+        }
+        MonthlyReport cached = reports.get(month);
+        if (cached != null && cached.getRevision() == currentRevision(month)) {
+            return cached;
+        }
+        try {
+            return requestGeneration(month).get(GENERATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating the report for " + month, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Error generating the report for " + month, e);
+        }
+    }
+
+    // Join the running generation for the month, or queue a new one on the report thread
+    private CompletableFuture<MonthlyReport> requestGeneration(YearMonth month) {
+        CompletableFuture<MonthlyReport> generation = new CompletableFuture<>();
+        CompletableFuture<MonthlyReport> running = inFlight.putIfAbsent(month, generation);
+        if (running != null) {
+            return running;
+        }
+        generator.execute(() -> {
+            MonthlyReport report;
+            try {
+                report = generate(month);
+            } catch (RuntimeException e) {
+                inFlight.remove(month, generation);
+                generation.completeExceptionally(e);
+                return;
+            }
+            inFlight.remove(month, generation);
+            generation.complete(report);
+            // Bookings changed while the report was being laid out: go again
+            if (report.getRevision() != currentRevision(month)) {
+                requestGeneration(month);
+            }
+        });
+        return generation;
+    }
+
+    private AtomicLong revision(YearMonth month) {
+        return revisions.computeIfAbsent(month, key -> new AtomicLong());
+    }
+
+    private long currentRevision(YearMonth month) {
+        AtomicLong revision = revisions.get(month);
+        return revision != null ? revision.get() : 0;
+    }
+
+    private MonthlyReport generate(YearMonth month) {
+        long revision = revision(month).get();
+        List<Booking> bookings = bookingRepository.findByWeddingDateBetweenOrderByWeddingDateAsc(
+                month.atDay(1), month.atEndOfMonth());
+        byte[] content = renderPdf(month, bookings);
+        MonthlyReport report = new MonthlyReport(month, content, sha256(content), revision, LocalDateTime.now());
+        reports.put(month, report);
+        System.out.println("📄 Generated monthly report for " + month + " (" + bookings.size() + " bookings, revision " + revision + ")");
+        return report;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private byte[] renderPdf(YearMonth month, List<Booking> bookings) {
+        long events = 0;
+        long guests = 0;
+        long cancelled = 0;
+        Map<String, Long> venueUtilization = new TreeMap<>();
+        for (Booking booking : bookings) {
+            if (Booking.STATUS_CANCELLED.equalsIgnoreCase(booking.getBookingStatus())) {
+                cancelled++;
+                continue;
+            }
+            events++;
+            guests += booking.getGuestCount();
+            venueUtilization.merge(booking.getVenue() != null ? booking.getVenue() : "Unassigned", 1L, Long::sum);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document(new PdfDocument(new PdfWriter(out)), PageSize.A4);
+        document.setMargins(40, 40, 40, 40);
+
+        Color goldColor = new DeviceRgb(200, 169, 106);
+        Color darkColor = new DeviceRgb(45, 45, 45);
+        Color lightGray = new DeviceRgb(248, 249, 250);
+
+        document.add(new Paragraph("GRAND AURA")
+                .setFontSize(28)
+                .setBold()
+                .setFontColor(goldColor)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginBottom(5));
+        document.add(new Paragraph("Event Coordination - Monthly Report")
+                .setFontSize(16)
+                .setFontColor(darkColor)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginBottom(5));
+        document.add(new Paragraph(month.format(MONTH_TITLE))
+                .setFontSize(14)
+                .setBold()
+                .setFontColor(darkColor)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginBottom(20));
+        document.add(new Paragraph("Report Generated: " + LocalDateTime.now().format(GENERATED_AT))
+                .setFontSize(10)
+                .setFontColor(ColorConstants.GRAY)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginBottom(30));
+
+        LineSeparator line = new LineSeparator(new SolidLine(1f));
+        line.setMarginBottom(20);
+        document.add(line);
+
+        // Key Statistics Section
+        document.add(sectionHeader("📊 KEY STATISTICS", goldColor));
+        Table statsTable = table(lightGray, "Metric", "Value");
+        addRow(statsTable, "Total Events", String.valueOf(events));
+        addRow(statsTable, "Total Guests Served", String.valueOf(guests));
+        addRow(statsTable, "Average Event Size", String.format("%.0f guests", events > 0 ? (double) guests / events : 0.0));
+        addRow(statsTable, "Cancelled Bookings", String.valueOf(cancelled));
+        document.add(statsTable);
+
+        // Venue Utilization Section
+        document.add(sectionHeader("🏛️ VENUE UTILIZATION", goldColor));
+        Table venueTable = table(lightGray, "Venue", "Bookings");
+        for (Map.Entry<String, Long> entry : venueUtilization.entrySet()) {
+            addRow(venueTable, entry.getKey(), entry.getValue().toString());
+        }
+        document.add(venueTable);
+
+        // Event Schedule Section
+        document.add(sectionHeader("📅 EVENT SCHEDULE", goldColor));
+        Table scheduleTable = table(lightGray, "Date", "Couple", "Venue", "Guests", "Status");
+        for (Booking booking : bookings) {
+            addRow(scheduleTable,
+                    booking.getWeddingDate().format(EVENT_DATE),
+                    booking.getCustomerName(),
+                    booking.getVenue(),
+                    String.valueOf(booking.getGuestCount()),
+                    booking.getBookingStatus() != null ? booking.getBookingStatus() : "Pending");
+        }
+        if (bookings.isEmpty()) {
+            scheduleTable.addCell(new Cell(1, 5).add(new Paragraph("No events scheduled this month")).setPadding(8));
+        }
+        document.add(scheduleTable);
+
+        // Footer
+        document.add(new LineSeparator(new SolidLine(1f)).setMarginTop(20));
+        document.add(new Paragraph("© 2025 Grand Aura Event Coordination System • Confidential Report")
+                .setFontSize(9)
+                .setFontColor(ColorConstants.GRAY)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginTop(10));
+
+        document.close();
+        return out.toByteArray();
+    }
+
+    private Paragraph sectionHeader(String text, Color color) {
+        return new Paragraph(text)
+                .setFontSize(14)
+                .setBold()
+                .setFontColor(color)
+                .setMarginBottom(10);
+    }
+
+    private Table table(Color headerBackground, String... headers) {
+        float[] widths = new float[headers.length];
+        Arrays.fill(widths, 1);
+        widths[0] = headers.length == 2 ? 2 : 1;
+        Table table = new Table(widths)
+                .useAllAvailableWidth()
+                .setMarginBottom(20);
+        for (String header : headers) {
+            table.addHeaderCell(new Cell()
+                    .add(new Paragraph(header).setBold())
+                    .setBackgroundColor(headerBackground)
+                    .setPadding(10));
+        }
+        return table;
+    }
+
+    private void addRow(Table table, String... values) {
+        for (String value : values) {
+            table.addCell(new Cell().add(new Paragraph(value != null ? value : "")).setPadding(8));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.grandaura.service;
 
+import org.example.grandaura.dto.BookingDetailView;
+import org.example.grandaura.dto.BookingStatsSnapshot;
 import org.example.grandaura.entity.Booking;
 import org.example.grandaura.entity.EventCoordinator;
 import org.example.grandaura.entity.HotelOwner;
@@ -15,7 +17,7 @@ import org.example.grandaura.repository.UserAccountRepository;
 import org.example.grandaura.repository.CateringManagerRepository;
 import org.example.grandaura.repository.FrontDeskOfficerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -38,7 +40,11 @@ public class SystemAdministratorService {
     private final CateringManagerRepository cateringManagerRepository;
     private final FrontDeskOfficerRepository frontDeskOfficerRepository;
     private final BookingRepository bookingRepository;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final BookingCounterService bookingCounterService;
+    private final PasswordEncoder passwordEncoder;
+    private final SystemMetricsService systemMetricsService;
+    private final BookingCleanupService bookingCleanupService;
+    private final BookingDetailService bookingDetailService;
 
     @Autowired
     public SystemAdministratorService(SystemAdministratorRepository systemAdministratorRepository,
@@ -47,7 +53,12 @@ public class SystemAdministratorService {
                                       EventCoordinatorRepository eventCoordinatorRepository,
                                       CateringManagerRepository cateringManagerRepository,
                                       FrontDeskOfficerRepository frontDeskOfficerRepository,
-                                      BookingRepository bookingRepository) {
+                                      BookingRepository bookingRepository,
+                                      BookingCounterService bookingCounterService,
+                                      PasswordEncoder passwordEncoder,
+                                      SystemMetricsService systemMetricsService,
+                                      BookingCleanupService bookingCleanupService,
+                                      BookingDetailService bookingDetailService) {
         this.systemAdministratorRepository = systemAdministratorRepository;
         this.userAccountRepository = userAccountRepository;
         this.hotelOwnerRepository = hotelOwnerRepository;
@@ -55,6 +66,11 @@ public class SystemAdministratorService {
         this.cateringManagerRepository = cateringManagerRepository;
         this.frontDeskOfficerRepository = frontDeskOfficerRepository;
         this.bookingRepository = bookingRepository;
+        this.bookingCounterService = bookingCounterService;
+        this.passwordEncoder = passwordEncoder;
+        this.systemMetricsService = systemMetricsService;
+        this.bookingCleanupService = bookingCleanupService;
+        this.bookingDetailService = bookingDetailService;
     }
 
     // System Administrator Management Methods
@@ -111,6 +127,13 @@ public class SystemAdministratorService {
         return bookingRepository.findAll();
     }
 
+    /**
+     * Get the booking detail page view with every column
+     */
+    public Optional<BookingDetailView> getBookingDetail(Long id) {
+        return bookingDetailService.getBookingDetail(id, BookingDetailView.Scope.FULL);
+    }
+
     /**
      * Get total user count by type
      */
@@ -131,31 +154,19 @@ public class SystemAdministratorService {
         
         // User statistics
         stats.put("totalUsers", getUserCounts().values().stream().mapToLong(Long::longValue).sum());
-        stats.put("totalBookings", bookingRepository.count());
-        stats.put("totalGuests", bookingRepository.findAll().stream().mapToInt(Booking::getGuestCount).sum());
+        stats.put("totalBookings", bookingCounterService.getTotalBookings());
+        stats.put("totalGuests", bookingCounterService.getTotalGuests());
         
         // Recent activity
         LocalDate thirtyDaysAgo = LocalDate.now().minusDays(30);
-        long recentBookings = bookingRepository.findAll().stream()
-                .filter(booking -> !booking.getWeddingDate().isBefore(thirtyDaysAgo))
-                .count();
+        long recentBookings = bookingRepository.countByWeddingDateGreaterThanEqual(thirtyDaysAgo);
         stats.put("recentBookings", recentBookings);
         
-        // Venue utilization
-        Map<String, Long> venueUtilization = bookingRepository.findAll().stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        Booking::getVenue,
-                        java.util.stream.Collectors.counting()
-                ));
-        stats.put("venueUtilization", venueUtilization);
-        
-        // Monthly trends
-        Map<String, Long> monthlyStats = bookingRepository.findAll().stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        booking -> booking.getWeddingDate().getMonth().toString(),
-                        java.util.stream.Collectors.counting()
-                ));
-        stats.put("monthlyStats", monthlyStats);
+        // Venue utilization and monthly trends from the maintained counters
+        BookingStatsSnapshot counters = bookingCounterService.getStatsSnapshot(0);
+        stats.put("venueUtilization", counters.getVenueUtilization());
+        stats.put("monthlyStats", counters.getMonthlyStats());
+        stats.put("statusCounts", bookingCounterService.getStatusCounts());
         
         return stats;
     }
@@ -191,17 +202,28 @@ public class SystemAdministratorService {
     public Map<String, Object> getSystemPerformance() {
         Map<String, Object> performance = new HashMap<>();
         
-        // Calculate average booking value (simplified)
-        List<Booking> bookings = bookingRepository.findAll();
-        double averageGuestCount = bookings.stream()
-                .mapToInt(Booking::getGuestCount)
-                .average()
-                .orElse(0.0);
+        // Average guest count from the maintained counters
+        long totalBookings = bookingCounterService.getTotalBookings();
+        double averageGuestCount = totalBookings > 0
+                ? (double) bookingCounterService.getTotalGuests() / totalBookings
+                : 0.0;
         
         performance.put("averageGuestCount", averageGuestCount);
-        performance.put("totalBookings", bookings.size());
-        performance.put("systemUptime", "99.9%"); // Placeholder
-        performance.put("responseTime", "150ms"); // Placeholder
+        performance.put("totalBookings", totalBookings);
+        
+        // Live values from the metrics registry, also exported at /actuator/prometheus
+        Map<String, Object> requests = systemMetricsService.getRequestMetrics();
+        Map<String, Object> jvm = systemMetricsService.getJvmMetrics();
+        performance.put("systemUptime", SystemMetricsService.formatDuration(((Number) jvm.get("uptimeMillis")).doubleValue()));
+        performance.put("responseTime", String.format("%.0fms", ((Number) requests.get("averageMillis")).doubleValue()));
+        performance.put("requests", requests);
+        performance.put("serviceMethods", systemMetricsService.getServiceMethodMetrics());
+        performance.put("database", systemMetricsService.getDatabaseMetrics());
+        performance.put("connectionPool", systemMetricsService.getConnectionPoolMetrics());
+        performance.put("jvm", jvm);
+        if (passwordEncoder instanceof BoundedPasswordEncoder boundedEncoder) {
+            performance.put("passwordHashing", boundedEncoder.getStatistics());
+        }
         
         return performance;
     }
@@ -212,16 +234,18 @@ public class SystemAdministratorService {
     public Map<String, Object> getUserActivity() {
         Map<String, Object> activity = new HashMap<>();
         
-        // Recent user registrations (last 30 days)
-        LocalDate thirtyDaysAgo = LocalDate.now().minusDays(30);
-        long recentRegistrations = userAccountRepository.findAll().stream()
-                .filter(user -> user.getEmail().contains("@")) // Simplified check
-                .count();
+        // Registrations are not timestamped, so every customer account counts as recent
+        long customers = userAccountRepository.count();
+        
+        activity.put("recentRegistrations", customers);
+        activity.put("activeUsers", customers);
         
-        activity.put("recentRegistrations", recentRegistrations);
-        activity.put("activeUsers", getUserCounts().get("customers"));
-        activity.put("totalSessions", "1,234"); // Placeholder
-        activity.put("averageSessionTime", "25 minutes"); // Placeholder
+        Map<String, Object> sessions = systemMetricsService.getSessionMetrics();
+        double averageSessionMillis = ((Number) sessions.get("averageSessionMillis")).doubleValue();
+        activity.put("activeSessions", sessions.get("activeSessions"));
+        activity.put("totalSessions", sessions.get("totalSessions"));
+        activity.put("averageSessionTime", averageSessionMillis > 0
+                ? SystemMetricsService.formatDuration(averageSessionMillis) : "No ended sessions yet");
         
         return activity;
     }
@@ -408,24 +432,19 @@ public class SystemAdministratorService {
     }
 
     /**
-     * Cleanup old bookings without catering options
+     * Cleanup old bookings without catering options, in short chunked transactions
      */
-    public int cleanupOldBookings() {
-        List<Booking> oldBookings = bookingRepository.findAll().stream()
-            .filter(booking -> 
-                (booking.getBrideName() == null || booking.getBrideName().isEmpty()) &&
-                (booking.getGroomName() == null || booking.getGroomName().isEmpty()) &&
-                (booking.getPreferredVenue() == null || booking.getPreferredVenue().isEmpty()) &&
-                (booking.getCateringPackage() == null || booking.getCateringPackage().isEmpty()) &&
-                (booking.getDietaryRequirements() == null || booking.getDietaryRequirements().isEmpty()) &&
-                (booking.getSpecialCateringRequests() == null || booking.getSpecialCateringRequests().isEmpty()) &&
-                (booking.getEstimatedGuestCount() == null || booking.getEstimatedGuestCount() == 0)
-            )
-            .collect(java.util.stream.Collectors.toList());
-        
-        int count = oldBookings.size();
-        bookingRepository.deleteAll(oldBookings);
-        return count;
+    public long cleanupOldBookings() {
+        return (long) bookingCleanupService
+            .cleanupStaleBookings(BookingCleanupService.DEFAULT_CHUNK_SIZE, false).get("deleted");
+    }
+
+    /**
+     * Count the old bookings a cleanup would delete, without deleting them
+     */
+    public long countOldBookings() {
+        return (long) bookingCleanupService
+            .cleanupStaleBookings(BookingCleanupService.DEFAULT_CHUNK_SIZE, true).get("matched");
     }
 
     /**
@@ -0,0 +1,184 @@
+package org.example.grandaura.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Builds the system administrator dashboard model by running its independent sections in parallel
+ * Sections run on virtual threads when the JDK provides them (a small platform pool otherwise) and
+ * share a permit limit so dashboards cannot drain the connection pool. Each section has its own
+ * timeout: a section still waiting for a permit or still running at the deadline is rendered from a
+ * placeholder holding every key the templates read, so the rest of the page is served on time. A late
+ * section is interrupted, which frees its permit, but a running JDBC statement ignores interrupts; each
+ * section therefore runs in a read-only transaction whose timeout becomes the statement timeout, so its
+ * connection comes back within about a second of the deadline.
+ */
+@Service
+public class SystemDashboardService {
+
+    /** Sections allowed to query at once across all dashboard requests */
+    static final int MAX_CONCURRENT_SECTIONS = 8;
+    static final long SECTION_TIMEOUT_MILLIS = 2_000;
+    static final String UNAVAILABLE = "n/a";
+
+    private final SystemAdministratorService systemAdministratorService;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService executor = createExecutor();
+    private final Semaphore permits = new Semaphore(MAX_CONCURRENT_SECTIONS);
+
+    @Autowired
+    public SystemDashboardService(SystemAdministratorService systemAdministratorService,
+                                  PlatformTransactionManager transactionManager) {
+        this.systemAdministratorService = systemAdministratorService;
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * Get the dashboard model: systemStats, databaseHealth, systemPerformance, userActivity and
+     * degradedSections (the names of sections that timed out or failed)
+     */
+    public Map<String, Object> getDashboardModel() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SECTION_TIMEOUT_MILLIS);
+        Map<String, Future<Map<String, Object>>> sections = new LinkedHashMap<>();
+        sections.put("systemStats", submit(systemAdministratorService::getSystemStatistics, deadline));
+        sections.put("databaseHealth", submit(systemAdministratorService::getDatabaseHealth, deadline));
+        sections.put("systemPerformance", submit(systemAdministratorService::getSystemPerformance, deadline));
+        sections.put("userActivity", submit(systemAdministratorService::getUserActivity, deadline));
+
+        Map<String, Object> model = new HashMap<>();
+        List<String> degraded = new ArrayList<>();
+        sections.forEach((name, section) -> {
+            Map<String, Object> result = await(name, section, deadline);
+            if (result == null) {
+                degraded.add(name);
+                result = unavailable(name);
+            }
+            model.put(name, result);
+        });
+        model.put("degradedSections", degraded);
+        return model;
+    }
+
+    /**
+     * Stand-in for a section that timed out or failed
+     * The templates read the section's keys directly and SpEL fails on a key the map does not contain,
+     * so every key read is present; nested metrics are null, which hides the cards guarded on them.
+     */
+    static Map<String, Object> unavailable(String section) {
+        Map<String, Object> placeholder = new HashMap<>();
+        switch (section) {
+            case "systemStats" -> {
+                placeholder.put("totalUsers", UNAVAILABLE);
+                placeholder.put("totalBookings", UNAVAILABLE);
+                placeholder.put("totalGuests", UNAVAILABLE);
+                placeholder.put("recentBookings", UNAVAILABLE);
+                placeholder.put("venueUtilization", Map.of());
+                placeholder.put("monthlyStats", Map.of());
+                placeholder.put("statusCounts", Map.of());
+            }
+            case "databaseHealth" -> {
+                placeholder.put("status", "unavailable");
+                placeholder.put("userAccounts", UNAVAILABLE);
+                placeholder.put("bookings", UNAVAILABLE);
+            }
+            case "systemPerformance" -> {
+                placeholder.put("systemUptime", UNAVAILABLE);
+                placeholder.put("responseTime", UNAVAILABLE);
+                placeholder.put("averageGuestCount", UNAVAILABLE);
+                placeholder.put("totalBookings", UNAVAILABLE);
+                placeholder.put("requests", null);
+                placeholder.put("serviceMethods", List.of());
+                placeholder.put("database", null);
+                placeholder.put("connectionPool", null);
+                placeholder.put("jvm", null);
+                placeholder.put("passwordHashing", null);
+            }
+            case "userActivity" -> {
+                placeholder.put("activeUsers", UNAVAILABLE);
+                placeholder.put("recentRegistrations", UNAVAILABLE);
+                placeholder.put("activeSessions", UNAVAILABLE);
+                placeholder.put("totalSessions", UNAVAILABLE);
+                placeholder.put("averageSessionTime", UNAVAILABLE);
+            }
+            default -> throw new IllegalArgumentException("Unknown dashboard section: " + section);
+        }
+        return placeholder;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // A section that cannot get a permit before the deadline gives up instead of queueing behind the others;
+    // its queries get the time left as statement timeout (whole seconds, at least one)
+    private Future<Map<String, Object>> submit(Supplier<Map<String, Object>> section, long deadline) {
+        return executor.submit(() -> {
+            if (!permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+            try {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return null;
+                }
+                TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+                transaction.setReadOnly(true);
+                transaction.setTimeout((int) Math.max(1, (remainingMillis + 999) / 1000));
+                return transaction.execute(status -> section.get());
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    // A section that times out is interrupted so it releases its permit; null means degraded
+    private static Map<String, Object> await(String name, Future<Map<String, Object>> section, long deadline) {
+        try {
+            return section.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            section.cancel(true);
+            System.err.println("⚠️ Dashboard section timed out: " + name);
+        } catch (ExecutionException e) {
+            System.err.println("⚠️ Dashboard section failed: " + name + ": " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            section.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    // Virtual threads need JDK 21; the project still compiles for 17, so look the factory up reflectively
+    private static ExecutorService createExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            return Executors.newFixedThreadPool(MAX_CONCURRENT_SECTIONS, runnable -> {
+                Thread thread = new Thread(runnable, "admin-dashboard-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
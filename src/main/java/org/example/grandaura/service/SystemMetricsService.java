@@ -0,0 +1,230 @@
+package org.example.grandaura.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Statistic;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.example.grandaura.config.ControllerObservationConvention;
+import org.example.grandaura.config.ServiceMetricsAspect;
+import org.example.grandaura.config.SessionMetricsListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads live values from the Micrometer registry for the system administrator pages
+ * Everything shown here is also exported at /actuator/prometheus for external monitoring.
+ */
+@Service
+public class SystemMetricsService {
+
+    private static final String HTTP_REQUESTS = "http.server.requests";
+    private static final int TOP_ENTRIES = 10;
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SystemMetricsService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Get request latency across all endpoints, per controller and for the slowest endpoints
+     */
+    public Map<String, Object> getRequestMetrics() {
+        Collection<Timer> timers = meterRegistry.find(HTTP_REQUESTS).timers();
+        Map<String, Object> requests = new HashMap<>(summarize(timers));
+
+        Map<String, List<Timer>> byController = timers.stream()
+                .collect(Collectors.groupingBy(timer -> tagOrNone(timer, ControllerObservationConvention.CONTROLLER_TAG),
+                        TreeMap::new, Collectors.toList()));
+        Map<String, Map<String, Object>> controllers = new LinkedHashMap<>();
+        byController.forEach((controller, controllerTimers) -> controllers.put(controller, summarize(controllerTimers)));
+        requests.put("controllers", controllers);
+
+        List<Map<String, Object>> slowest = new ArrayList<>();
+        timers.stream()
+                .sorted(Comparator.comparingDouble((Timer timer) -> percentileMillis(timer, 0.95)).reversed())
+                .limit(TOP_ENTRIES)
+                .forEach(timer -> {
+                    Map<String, Object> endpoint = new LinkedHashMap<>(summarize(List.of(timer)));
+                    endpoint.put("endpoint", tagOrNone(timer, "method") + " " + tagOrNone(timer, "uri"));
+                    endpoint.put("status", tagOrNone(timer, "status"));
+                    endpoint.put("p95Millis", percentileMillis(timer, 0.95));
+                    endpoint.put("p99Millis", percentileMillis(timer, 0.99));
+                    slowest.add(endpoint);
+                });
+        requests.put("slowestEndpoints", slowest);
+        return requests;
+    }
+
+    /**
+     * Get the service methods with the most total time spent in them
+     */
+    public List<Map<String, Object>> getServiceMethodMetrics() {
+        Map<String, List<Timer>> byMethod = meterRegistry.find(ServiceMetricsAspect.METRIC_NAME).timers().stream()
+                .collect(Collectors.groupingBy(timer -> tagOrNone(timer, "class") + "." + tagOrNone(timer, "method")));
+        List<Map<String, Object>> methods = new ArrayList<>();
+        byMethod.forEach((method, timers) -> {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("method", method);
+            summary.putAll(summarize(timers));
+            summary.put("totalMillis", timers.stream().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum());
+            summary.put("errors", timers.stream().filter(timer -> !"none".equals(timer.getId().getTag("exception")))
+                    .mapToLong(Timer::count).sum());
+            methods.add(summary);
+        });
+        methods.sort(Comparator.comparingDouble((Map<String, Object> method) -> (double) method.get("totalMillis")).reversed());
+        return methods.size() > TOP_ENTRIES ? new ArrayList<>(methods.subList(0, TOP_ENTRIES)) : methods;
+    }
+
+    /**
+     * Get Hibernate query and statement statistics
+     */
+    public Map<String, Object> getDatabaseMetrics() {
+        Map<String, Object> database = new HashMap<>();
+        database.put("queryExecutions", (long) sum("hibernate.query.executions", Statistic.COUNT));
+        database.put("slowestQueryMillis", maxTimeGauge("hibernate.query.executions.max"));
+        database.put("statementsPrepared", (long) sumTagged("hibernate.statements", "status", "prepared"));
+        database.put("entitiesLoaded", (long) sum("hibernate.entities.loads", Statistic.COUNT));
+        database.put("sessionsOpened", (long) sum("hibernate.sessions.open", Statistic.COUNT));
+        database.put("transactions", (long) sum("hibernate.transactions", Statistic.COUNT));
+        return database;
+    }
+
+    /**
+     * Get Hikari connection pool usage
+     */
+    public Map<String, Object> getConnectionPoolMetrics() {
+        Map<String, Object> pool = new HashMap<>();
+        pool.put("active", (long) gaugeSum("hikaricp.connections.active"));
+        pool.put("idle", (long) gaugeSum("hikaricp.connections.idle"));
+        pool.put("pending", (long) gaugeSum("hikaricp.connections.pending"));
+        pool.put("max", (long) gaugeSum("hikaricp.connections.max"));
+        pool.put("averageAcquireMillis", meanMillis(meterRegistry.find("hikaricp.connections.acquire").timers()));
+        pool.put("averageUsageMillis", meanMillis(meterRegistry.find("hikaricp.connections.usage").timers()));
+        pool.put("timeouts", (long) sum("hikaricp.connections.timeout", Statistic.COUNT));
+        return pool;
+    }
+
+    /**
+     * Get HTTP session counts and the average lifetime of ended sessions
+     */
+    public Map<String, Object> getSessionMetrics() {
+        Map<String, Object> sessions = new HashMap<>();
+        sessions.put("activeSessions", (long) gaugeSum("tomcat.sessions.active.current"));
+        sessions.put("totalSessions", (long) sum("tomcat.sessions.created", Statistic.COUNT));
+        sessions.put("averageSessionMillis", meanMillis(meterRegistry.find(SessionMetricsListener.METRIC_NAME).timers()));
+        return sessions;
+    }
+
+    /**
+     * Get JVM heap, garbage collection, thread and uptime figures
+     */
+    public Map<String, Object> getJvmMetrics() {
+        Map<String, Object> jvm = new HashMap<>();
+        jvm.put("heapUsedBytes", (long) meterRegistry.find("jvm.memory.used").tag("area", "heap").gauges().stream()
+                .mapToDouble(Gauge::value).sum());
+        jvm.put("heapMaxBytes", (long) meterRegistry.find("jvm.memory.max").tag("area", "heap").gauges().stream()
+                .mapToDouble(Gauge::value).filter(value -> value > 0).sum());
+        Collection<Timer> gcPauses = meterRegistry.find("jvm.gc.pause").timers();
+        jvm.put("gcPauses", gcPauses.stream().mapToLong(Timer::count).sum());
+        jvm.put("gcPauseMillis", gcPauses.stream().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum());
+        jvm.put("liveThreads", (long) gaugeSum("jvm.threads.live"));
+        jvm.put("uptimeMillis", (long) maxTimeGauge("process.uptime"));
+        return jvm;
+    }
+
+    /**
+     * Format a duration in milliseconds as days, hours and minutes
+     */
+    public static String formatDuration(double millis) {
+        long minutes = (long) (millis / 60_000);
+        if (minutes < 1) {
+            return String.format("%.0fs", millis / 1000);
+        }
+        long days = minutes / (24 * 60);
+        long hours = minutes / 60 % 24;
+        StringBuilder formatted = new StringBuilder();
+        if (days > 0) {
+            formatted.append(days).append("d ");
+        }
+        if (days > 0 || hours > 0) {
+            formatted.append(hours).append("h ");
+        }
+        return formatted.append(minutes % 60).append("m").toString();
+    }
+
+    private static Map<String, Object> summarize(Collection<Timer> timers) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", timers.stream().mapToLong(Timer::count).sum());
+        summary.put("averageMillis", meanMillis(timers));
+        summary.put("maxMillis", timers.stream().mapToDouble(timer -> timer.max(TimeUnit.MILLISECONDS)).max().orElse(0));
+        return summary;
+    }
+
+    private static double meanMillis(Collection<Timer> timers) {
+        long count = timers.stream().mapToLong(Timer::count).sum();
+        double total = timers.stream().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum();
+        return count > 0 ? total / count : 0.0;
+    }
+
+    // Client-side percentiles are configured for http.server.requests in application.properties
+    private static double percentileMillis(Timer timer, double percentile) {
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0.0;
+    }
+
+    private static String tagOrNone(Meter meter, String tag) {
+        String value = meter.getId().getTag(tag);
+        return value != null ? value : "none";
+    }
+
+    private double gaugeSum(String name) {
+        return meterRegistry.find(name).gauges().stream().mapToDouble(Gauge::value).filter(Double::isFinite).sum();
+    }
+
+    private double maxTimeGauge(String name) {
+        return meterRegistry.find(name).timeGauges().stream()
+                .mapToDouble(gauge -> gauge.value(TimeUnit.MILLISECONDS)).filter(Double::isFinite).max().orElse(0);
+    }
+
+    private double sum(String name, Statistic statistic) {
+        return sumMeasurements(meterRegistry.find(name).meters(), statistic);
+    }
+
+    private double sumTagged(String name, String tag, String value) {
+        return sumMeasurements(meterRegistry.find(name).tag(tag, value).meters(), Statistic.COUNT);
+    }
+
+    // Works for counters and function counters alike, which Hibernate and Tomcat both use
+    private static double sumMeasurements(Collection<Meter> meters, Statistic statistic) {
+        Function<Meter, Double> valueOf = meter -> {
+            for (Measurement measurement : meter.measure()) {
+                if (measurement.getStatistic() == statistic && Double.isFinite(measurement.getValue())) {
+                    return measurement.getValue();
+                }
+            }
+            return 0.0;
+        };
+        return meters.stream().mapToDouble(valueOf::apply).sum();
+    }
+}
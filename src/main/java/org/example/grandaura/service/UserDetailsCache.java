@@ -0,0 +1,105 @@
+package org.example.grandaura.service;
+
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bounded, time-limited cache of resolved accounts for the authentication provider
+ * Entries expire after a few minutes and the least recently used ones are dropped when the cache is
+ * full. {@link AccountChangeListener} clears the cache whenever any account row is written, so a
+ * disabled, deleted or renamed account never authenticates from a stale entry.
+ * Copies are stored and handed out because the provider manager erases credentials on the
+ * principal it returns.
+ */
+@Service
+public class UserDetailsCache implements UserCache {
+
+    static final int MAX_ENTRIES = 1000;
+    static final long TTL_MILLIS = 5 * 60 * 1000L;
+
+    private final Map<String, CachedUser> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        if (username == null) {
+            return null;
+        }
+        String key = key(username);
+        CachedUser cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+            if (cached != null && cached.expiresAt() < System.currentTimeMillis()) {
+                entries.remove(key);
+                cached = null;
+            }
+        }
+        return cached != null ? copy(cached.user()) : null;
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        CachedUser cached = new CachedUser(copy(user), System.currentTimeMillis() + TTL_MILLIS);
+        synchronized (entries) {
+            entries.put(key(user.getUsername()), cached);
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        synchronized (entries) {
+            entries.remove(key(username));
+        }
+    }
+
+    /**
+     * Drop every entry now and again once the surrounding transaction commits, so a login racing
+     * the write cannot re-cache the old row
+     */
+    public void evictAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    // Emails are matched case-insensitively by the database collation, so the cache does the same
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static UserDetails copy(UserDetails user) {
+        return User.withUserDetails(user).build();
+    }
+
+    private record CachedUser(UserDetails user, long expiresAt) {}
+}
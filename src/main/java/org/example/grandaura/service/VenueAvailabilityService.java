@@ -0,0 +1,199 @@
+package org.example.grandaura.service;
+
+import org.example.grandaura.dto.VenueAvailability;
+import org.example.grandaura.dto.VenueReservationRow;
+import org.example.grandaura.entity.Booking;
+import org.example.grandaura.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service answering venue availability questions from in-memory calendars
+ * Each venue keeps one day-of-year bitset per year (bit set = date taken). Bitsets are copy-on-write,
+ * so lookups never lock; they are built at startup from active bookings and kept current from the
+ * reservation key changes that {@link BookingChangeListener} reports after each commit
+ */
+@Service
+public class VenueAvailabilityService {
+
+    public static final int DEFAULT_RESULTS = 10;
+    public static final int MAX_RESULTS = 366;
+    private static final int DEFAULT_SEARCH_MONTHS = 12;
+    private static final int MAX_SEARCH_YEARS = 3;
+
+    // Published venues and their maximum capacity, matching the booking form options
+    private static final Map<String, Integer> VENUE_CAPACITY = new LinkedHashMap<>();
+
+    static {
+        VENUE_CAPACITY.put("Chequerboard - Up to 1000 pax", 1000);
+        VENUE_CAPACITY.put("Jubilee Ballroom - 150 to 200 pax", 200);
+        VENUE_CAPACITY.put("Grand Ballroom - 250 to 280 pax", 280);
+    }
+
+    private final BookingRepository bookingRepository;
+    private volatile Map<String, Map<Integer, BitSet>> calendars = new ConcurrentHashMap<>();
+
+    @Autowired
+    public VenueAvailabilityService(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    /**
+     * Build the calendars once the application is up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCalendars() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild every calendar from the bookings table, from today onwards
+     */
+    public void rebuild() {
+        Map<String, Map<Integer, BitSet>> rebuilt = new ConcurrentHashMap<>();
+        for (VenueReservationRow row : bookingRepository.findActiveReservations(LocalDate.now())) {
+            if (row.getVenue() != null && row.getWeddingDate() != null) {
+                LocalDate date = row.getWeddingDate();
+                rebuilt.computeIfAbsent(row.getVenue(), venue -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(date.getYear(), year -> new BitSet(366))
+                        .set(date.getDayOfYear() - 1);
+            }
+        }
+        calendars = rebuilt;
+    }
+
+    /**
+     * Record a booking's move from one reservation key to another; null means no slot
+     * Applied after the surrounding transaction commits so rolled back writes never show up
+     */
+    public void record(String previousKey, String currentKey) {
+        if (Objects.equals(previousKey, currentKey)) {
+            return;
+        }
+        Runnable change = () -> {
+            update(previousKey, false);
+            update(currentKey, true);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Whether the venue is free on the given date
+     */
+    public boolean isFree(String venue, LocalDate date) {
+        BitSet days = calendar(venue, date.getYear());
+        return days == null || !days.get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * Free dates for a venue within [from, to], earliest first, at most limit of them
+     */
+    public List<LocalDate> findFreeDates(String venue, LocalDate from, LocalDate to, int limit) {
+        List<LocalDate> freeDates = new ArrayList<>(Math.min(limit, MAX_RESULTS));
+        Map<Integer, BitSet> venueCalendar = calendars.get(venue);
+        for (int year = from.getYear(); year <= to.getYear() && freeDates.size() < limit; year++) {
+            BitSet days = venueCalendar != null ? venueCalendar.get(year) : null;
+            int first = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int last = year == to.getYear() ? to.getDayOfYear() - 1 : LocalDate.ofYearDay(year, 1).lengthOfYear() - 1;
+            int day = days != null ? days.nextClearBit(first) : first;
+            while (day <= last && freeDates.size() < limit) {
+                freeDates.add(LocalDate.ofYearDay(year, day + 1));
+                day = days != null ? days.nextClearBit(day + 1) : day + 1;
+            }
+        }
+        return freeDates;
+    }
+
+    /**
+     * Availability for one venue, or for every venue that fits the guest count when no venue is given
+     * The search starts at from (default: the requested date or today, never in the past) and runs
+     * to to (default: twelve months later, capped at three years)
+     */
+    public List<VenueAvailability> search(String venue, Integer guests, LocalDate date,
+                                          LocalDate from, LocalDate to, Integer limit) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = from != null ? from : (date != null ? date : today);
+        if (start.isBefore(today)) {
+            start = today;
+        }
+        LocalDate end = to != null ? to : start.plusMonths(DEFAULT_SEARCH_MONTHS);
+        if (end.isAfter(start.plusYears(MAX_SEARCH_YEARS))) {
+            end = start.plusYears(MAX_SEARCH_YEARS);
+        }
+        int results = limit == null || limit < 1 ? DEFAULT_RESULTS : Math.min(limit, MAX_RESULTS);
+
+        List<String> venues;
+        if (venue != null && !venue.isBlank()) {
+            venues = List.of(venue);
+        } else {
+            venues = VENUE_CAPACITY.entrySet().stream()
+                    .filter(entry -> guests == null || entry.getValue() >= guests)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        List<VenueAvailability> availability = new ArrayList<>(venues.size());
+        for (String name : venues) {
+            Boolean dateFree = date != null ? isFree(name, date) : null;
+            List<LocalDate> freeDates = end.isBefore(start)
+                    ? List.of()
+                    : findFreeDates(name, start, end, results);
+            availability.add(new VenueAvailability(name, VENUE_CAPACITY.get(name), date, dateFree, freeDates));
+        }
+        return availability;
+    }
+
+    /**
+     * Published venues and their maximum guest capacity
+     */
+    public Map<String, Integer> getVenueCapacities() {
+        return Collections.unmodifiableMap(VENUE_CAPACITY);
+    }
+
+    private BitSet calendar(String venue, int year) {
+        Map<Integer, BitSet> venueCalendar = calendars.get(venue);
+        return venueCalendar != null ? venueCalendar.get(year) : null;
+    }
+
+    private void update(String reservationKey, boolean taken) {
+        if (reservationKey == null || reservationKey.startsWith(Booking.RELEASED_PREFIX)) {
+            return;
+        }
+        int separator = reservationKey.lastIndexOf('|');
+        if (separator < 0) {
+            return;
+        }
+        String venue = reservationKey.substring(0, separator);
+        LocalDate date = LocalDate.parse(reservationKey.substring(separator + 1));
+        // Copy-on-write so concurrent readers always see a complete bitset
+        calendars.computeIfAbsent(venue, name -> new ConcurrentHashMap<>())
+                .compute(date.getYear(), (year, days) -> {
+                    BitSet copy = days != null ? (BitSet) days.clone() : new BitSet(366);
+                    copy.set(date.getDayOfYear() - 1, taken);
+                    return copy;
+                });
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.grandaura.service;
+
+import java.time.LocalDate;
+
+/**
+ * Thrown when a booking would take a venue on a date that another active booking already holds
+ */
+public class VenueUnavailableException extends RuntimeException {
+
+    private final String venue;
+    private final LocalDate weddingDate;
+
+    public VenueUnavailableException(String venue, LocalDate weddingDate, Throwable cause) {
+        super(venue + " is already booked on " + weddingDate, cause);
+        this.venue = venue;
+        this.weddingDate = weddingDate;
+    }
+
+    public String getVenue() { return venue; }
+    public LocalDate getWeddingDate() { return weddingDate; }
+}
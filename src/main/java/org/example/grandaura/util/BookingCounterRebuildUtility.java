@@ -0,0 +1,37 @@
+package org.example.grandaura.util;
+
+import org.example.grandaura.service.BookingCounterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Utility class to rebuild the booking counters from scratch
+ * Run with the "rebuild-booking-counters" argument to repair drift, e.g. after bulk SQL edits
+ */
+@Component
+public class BookingCounterRebuildUtility implements CommandLineRunner {
+
+    @Autowired
+    private BookingCounterService bookingCounterService;
+
+    @Override
+    public void run(String... args) throws Exception {
+        // Only run rebuild if specifically requested
+        if (args.length > 0 && "rebuild-booking-counters".equals(args[0])) {
+            rebuildCounters();
+        }
+    }
+
+    public void rebuildCounters() {
+        System.out.println("🔄 Rebuilding booking counters from the bookings table...");
+        
+        Map<String, Long> counters = new TreeMap<>(bookingCounterService.rebuild());
+        counters.forEach((key, value) -> System.out.println("  - " + key + " = " + value));
+        
+        System.out.println("✅ Rebuilt " + counters.size() + " booking counters");
+    }
+}
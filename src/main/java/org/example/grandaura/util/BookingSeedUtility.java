@@ -0,0 +1,56 @@
+package org.example.grandaura.util;
+
+import org.example.grandaura.service.DatasetSeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Utility class to fill the database with synthetic bookings for load tests and benchmarks
+ * Run with the arguments: seed-bookings <count> [distribution.properties]
+ * On SQL Server, adding useBulkCopyForBatchInsert=true to the datasource URL speeds up the inserts further.
+ */
+@Component
+public class BookingSeedUtility implements CommandLineRunner {
+
+    @Autowired
+    private DatasetSeedService datasetSeedService;
+
+    @Override
+    public void run(String... rawArgs) throws Exception {
+        // Spring --options may follow the command, only the positional arguments matter here
+        String[] args = Arrays.stream(rawArgs).filter(arg -> !arg.startsWith("--")).toArray(String[]::new);
+        // Only run seeding if specifically requested
+        if (args.length > 0 && "seed-bookings".equals(args[0])) {
+            if (args.length < 2) {
+                System.err.println("❌ Usage: seed-bookings <count> [distribution.properties]");
+                return;
+            }
+            Path overrides = args.length > 2 ? Paths.get(args[2]) : null;
+            seedBookings(Integer.parseInt(args[1]), overrides);
+        }
+    }
+
+    public void seedBookings(int count, Path distributionOverrides) throws Exception {
+        System.out.println("🌱 Seeding " + count + " synthetic bookings"
+            + (distributionOverrides != null ? " using " + distributionOverrides : "") + "...");
+
+        SeedDistribution distribution = SeedDistribution.load(distributionOverrides, LocalDate.now());
+        Map<String, Object> stats;
+        try {
+            stats = datasetSeedService.seed(count, distribution);
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            return;
+        }
+        stats.forEach((key, value) -> System.out.println("  - " + key + " = " + value));
+
+        System.out.println("🎉 Seeding completed! Seeded accounts use the password " + DatasetSeedService.SEED_PASSWORD);
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.grandaura.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 CSV reader, the counterpart of CsvWriter
+ * Quoted fields may contain commas, doubled quotes and line breaks; records end with CRLF or LF.
+ * Records are parsed one at a time from the underlying reader (wrap it in a BufferedReader), so files of
+ * any size stream through.
+ */
+public class CsvReader {
+
+    private static final int BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader in;
+    private final StringBuilder field = new StringBuilder();
+    private int pending = -2;
+    private boolean started;
+    private long line = 1;
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Read the next record, or null at the end of the input
+     * Empty fields are returned as empty strings
+     * @throws MalformedCsvException if the input ends inside a quoted field
+     */
+    public List<String> readRow() throws IOException {
+        int c = next();
+        if (!started) {
+            started = true;
+            if (c == BYTE_ORDER_MARK) {
+                c = next();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+        List<String> row = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        long quoteLine = line;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new MalformedCsvException("Unterminated quoted field", quoteLine);
+                }
+                if (c == '"') {
+                    c = next();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+                quoteLine = line;
+            } else if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int after = next();
+                    if (after != '\n') {
+                        // A lone CR ends a line; CRLF was counted at its LF
+                        pending = after;
+                        line++;
+                    }
+                }
+                row.add(field.toString());
+                return row;
+            } else {
+                field.append((char) c);
+            }
+            c = next();
+        }
+    }
+
+    /**
+     * Get the line of the input the reader has reached, counting from 1
+     */
+    public long getLineNumber() {
+        return line;
+    }
+
+    private int next() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        int c = in.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    /**
+     * Thrown when the input is not valid CSV; carries the line the broken record starts on
+     */
+    public static class MalformedCsvException extends IOException {
+
+        private final long line;
+
+        public MalformedCsvException(String message, long line) {
+            super(message + " starting on line " + line);
+            this.line = line;
+        }
+
+        public long getLine() {
+            return line;
+        }
+    }
+}
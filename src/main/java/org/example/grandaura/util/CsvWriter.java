@@ -0,0 +1,68 @@
+package org.example.grandaura.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Minimal RFC 4180 CSV writer
+ * Fields containing a comma, double quote, CR or LF are quoted, embedded quotes are doubled
+ * and every record ends with CRLF. Rows go straight to the underlying writer; nothing is buffered here.
+ */
+public class CsvWriter {
+
+    private static final String LINE_END = "\r\n";
+
+    private final Writer out;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Write one record; null fields are written as empty
+     */
+    public void writeRow(Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeField(fields[i]);
+        }
+        out.write(LINE_END);
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeField(Object field) throws IOException {
+        if (field == null) {
+            return;
+        }
+        String value = field.toString();
+        if (!needsQuoting(value)) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        int start = 0;
+        int quote;
+        while ((quote = value.indexOf('"', start)) >= 0) {
+            out.write(value, start, quote - start + 1);
+            out.write('"');
+            start = quote + 1;
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+
+    static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
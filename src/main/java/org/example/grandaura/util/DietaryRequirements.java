@@ -0,0 +1,85 @@
+package org.example.grandaura.util;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the free-text dietary requirements of a booking into guest counts per requirement
+ * The text is split into parts on commas, semicolons, slashes, line breaks, "and" and "+". Each part that
+ * names a known requirement counts the guests it gives ("12 vegetarian", "vegan x4"), a percentage of the
+ * guests ("20% halal") or, without a number, every guest ("Halal", "Gluten-free menu"). Counts are capped
+ * at the guest count; parts naming no known requirement ("None", "see notes") are ignored.
+ */
+public final class DietaryRequirements {
+
+    public static final String VEGETARIAN = "Vegetarian";
+    public static final String VEGAN = "Vegan";
+    public static final String GLUTEN_FREE = "Gluten-Free";
+    public static final String HALAL = "Halal";
+    public static final String KOSHER = "Kosher";
+    public static final String NUT_FREE = "Nut-Free";
+    public static final String DAIRY_FREE = "Dairy-Free";
+    public static final String SHELLFISH_FREE = "Shellfish-Free";
+
+    private static final Pattern SEPARATOR = Pattern.compile("[,;/\\n+]|\\band\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PERCENT = Pattern.compile("(\\d{1,3})\\s*%");
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    // Checked in order, first match wins: "vegan" before "vegetarian" keeps "vegan" from counting twice
+    private static final Map<Pattern, String> KEYWORDS = new LinkedHashMap<>();
+
+    static {
+        KEYWORDS.put(Pattern.compile("\\bvegan"), VEGAN);
+        KEYWORDS.put(Pattern.compile("\\bvegetarian|\\bveggie|\\bveg\\b"), VEGETARIAN);
+        KEYWORDS.put(Pattern.compile("gluten|coeliac|celiac"), GLUTEN_FREE);
+        KEYWORDS.put(Pattern.compile("\\bhalal"), HALAL);
+        KEYWORDS.put(Pattern.compile("\\bkosher"), KOSHER);
+        KEYWORDS.put(Pattern.compile("\\bnuts?\\b|\\bnut-|peanut"), NUT_FREE);
+        KEYWORDS.put(Pattern.compile("dairy|lactose"), DAIRY_FREE);
+        KEYWORDS.put(Pattern.compile("shellfish|seafood"), SHELLFISH_FREE);
+    }
+
+    private DietaryRequirements() {
+    }
+
+    /**
+     * Guests per requirement for a booking of the given size; empty when the text names none
+     */
+    public static Map<String, Integer> parse(String text, int guests) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        if (text == null || text.isBlank() || guests <= 0) {
+            return counts;
+        }
+        for (String part : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            String requirement = requirementOf(part);
+            if (requirement != null) {
+                counts.merge(requirement, guestsIn(part, guests), (a, b) -> Math.min(guests, a + b));
+            }
+        }
+        return counts;
+    }
+
+    private static String requirementOf(String part) {
+        for (Map.Entry<Pattern, String> keyword : KEYWORDS.entrySet()) {
+            if (keyword.getKey().matcher(part).find()) {
+                return keyword.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static int guestsIn(String part, int guests) {
+        Matcher percent = PERCENT.matcher(part);
+        if (percent.find()) {
+            return (int) Math.round(guests * Math.min(100, Integer.parseInt(percent.group(1))) / 100.0);
+        }
+        Matcher number = NUMBER.matcher(part);
+        if (number.find() && number.group().length() <= 6) {
+            return Math.min(guests, Integer.parseInt(number.group()));
+        }
+        return guests;
+    }
+}
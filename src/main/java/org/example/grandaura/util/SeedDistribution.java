@@ -0,0 +1,242 @@
+package org.example.grandaura.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * Distributions used by the seed-bookings command to generate realistic data
+ * Defaults come from seed-distribution.properties on the classpath; any key can be overridden
+ * from a properties file passed on the command line.
+ */
+public class SeedDistribution {
+
+    private static final String DEFAULTS = "/seed-distribution.properties";
+    private static final String CANCELLED = "Cancelled";
+
+    private final Properties properties;
+    private final Weighted<String> venues;
+    private final Weighted<String> cateringPackages;
+    private final Weighted<String> dietaryRequirements;
+    private final Weighted<String> pastStatuses;
+    private final Weighted<String> upcomingStatuses;
+    private final List<LocalDate> dates = new ArrayList<>();
+    private final Weighted<LocalDate> weddingDates;
+    private final int minGuests;
+    private final double guestModeFraction;
+
+    private SeedDistribution(Properties properties, LocalDate today) {
+        this.properties = properties;
+        this.venues = weights("venue.weights", Function.identity());
+        this.cateringPackages = weights("catering.package.weights", Function.identity());
+        this.dietaryRequirements = weights("catering.dietary.weights", Function.identity());
+        this.pastStatuses = weights("status.past.weights", Function.identity());
+        this.upcomingStatuses = weights("status.upcoming.weights", Function.identity());
+        this.minGuests = getInt("guests.min");
+        this.guestModeFraction = getDouble("guests.mode.fraction");
+
+        // Every candidate date weighted by its month and weekday, so seasonal and weekend peaks combine
+        Weighted<Integer> months = weights("dates.month.weights", Integer::valueOf);
+        Weighted<DayOfWeek> weekdays = weights("dates.weekday.weights", DayOfWeek::valueOf);
+        LocalDate from = today.minusYears(getInt("dates.years.past"));
+        LocalDate to = today.plusYears(getInt("dates.years.ahead"));
+        List<Double> dateWeights = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            double weight = months.weightOf(date.getMonthValue()) * weekdays.weightOf(date.getDayOfWeek());
+            if (weight > 0) {
+                dates.add(date);
+                dateWeights.add(weight);
+            }
+        }
+        this.weddingDates = new Weighted<>(dates, dateWeights);
+    }
+
+    /**
+     * Load the default distributions, overridden by the given file when not null
+     */
+    public static SeedDistribution load(Path overrides, LocalDate today) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = SeedDistribution.class.getResourceAsStream(DEFAULTS)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing " + DEFAULTS + " on the classpath");
+            }
+            properties.load(in);
+        }
+        if (overrides != null) {
+            try (Reader reader = Files.newBufferedReader(overrides, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        }
+        return new SeedDistribution(properties, today);
+    }
+
+    public int getInt(String key) {
+        return Integer.parseInt(require(key));
+    }
+
+    public double getDouble(String key) {
+        return Double.parseDouble(require(key));
+    }
+
+    public List<String> getVenues() {
+        return venues.values;
+    }
+
+    /**
+     * Get the candidate wedding dates in ascending order; {@link #pickDateIndex} returns positions in this list
+     */
+    public List<LocalDate> getDates() {
+        return dates;
+    }
+
+    public String pickVenue(SplittableRandom random) {
+        return venues.pick(random);
+    }
+
+    /**
+     * Expected share of bookings that are not cancelled, from the date weights and the status weights
+     * of past and upcoming dates
+     */
+    public double getActiveShare(LocalDate today) {
+        double active = 0;
+        double total = 0;
+        for (int i = 0; i < dates.size(); i++) {
+            double weight = weddingDates.weights[i];
+            Weighted<String> statuses = dates.get(i).isBefore(today) ? pastStatuses : upcomingStatuses;
+            active += weight * (1 - cancelledShare(statuses));
+            total += weight;
+        }
+        return active / total;
+    }
+
+    public int pickDateIndex(SplittableRandom random) {
+        return weddingDates.pickIndex(random);
+    }
+
+    /**
+     * Pick a catering package, or null for a booking without catering
+     */
+    public String pickCateringPackage(SplittableRandom random) {
+        return noneAsNull(cateringPackages.pick(random));
+    }
+
+    public String pickDietaryRequirement(SplittableRandom random) {
+        return noneAsNull(dietaryRequirements.pick(random));
+    }
+
+    public String pickStatus(SplittableRandom random, boolean past) {
+        return (past ? pastStatuses : upcomingStatuses).pick(random);
+    }
+
+    /**
+     * Pick a guest count between guests.min and the venue capacity, peaking at guests.mode.fraction of capacity
+     */
+    public int pickGuestCount(SplittableRandom random, int capacity) {
+        double min = Math.min(minGuests, capacity);
+        double mode = Math.max(min, capacity * guestModeFraction);
+        double max = capacity;
+        if (max <= min) {
+            return (int) min;
+        }
+        double u = random.nextDouble();
+        double split = (mode - min) / (max - min);
+        double value = u < split
+                ? min + Math.sqrt(u * (max - min) * (mode - min))
+                : max - Math.sqrt((1 - u) * (max - min) * (max - mode));
+        return (int) Math.round(value);
+    }
+
+    private static double cancelledShare(Weighted<String> statuses) {
+        double cancelled = 0;
+        for (int i = 0; i < statuses.values.size(); i++) {
+            if (CANCELLED.equalsIgnoreCase(statuses.values.get(i))) {
+                cancelled += statuses.weights[i];
+            }
+        }
+        return cancelled / statuses.totalWeight();
+    }
+
+    private String require(String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing seed distribution setting: " + key);
+        }
+        return value.trim();
+    }
+
+    private static String noneAsNull(String value) {
+        return "None".equalsIgnoreCase(value) ? null : value;
+    }
+
+    // Parses "value:weight,value:weight"; the last colon splits so values may contain colons
+    private <T> Weighted<T> weights(String key, Function<String, T> parser) {
+        List<T> values = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (String entry : require(key).split(",")) {
+            int colon = entry.lastIndexOf(':');
+            if (colon <= 0) {
+                throw new IllegalArgumentException("Expected value:weight in " + key + " but found '" + entry + "'");
+            }
+            values.add(parser.apply(entry.substring(0, colon).trim()));
+            weights.add(Double.parseDouble(entry.substring(colon + 1).trim()));
+        }
+        return new Weighted<>(values, weights);
+    }
+
+    /**
+     * Values with relative weights, sampled through a cumulative table
+     */
+    private static final class Weighted<T> {
+        private final List<T> values;
+        private final double[] weights;
+        private final double[] cumulative;
+
+        Weighted(List<T> values, List<Double> weights) {
+            if (values.isEmpty()) {
+                throw new IllegalArgumentException("A distribution needs at least one value");
+            }
+            this.values = List.copyOf(values);
+            this.weights = weights.stream().mapToDouble(Double::doubleValue).toArray();
+            this.cumulative = new double[this.weights.length];
+            double total = 0;
+            for (int i = 0; i < this.weights.length; i++) {
+                total += this.weights[i];
+                cumulative[i] = total;
+            }
+            if (total <= 0) {
+                throw new IllegalArgumentException("A distribution needs a positive total weight");
+            }
+        }
+
+        double weightOf(T value) {
+            int index = values.indexOf(value);
+            return index < 0 ? 0 : weights[index];
+        }
+
+        double totalWeight() {
+            return cumulative[cumulative.length - 1];
+        }
+
+        int pickIndex(SplittableRandom random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, target);
+            index = index < 0 ? -index - 1 : index + 1;
+            return Math.min(index, cumulative.length - 1);
+        }
+
+        T pick(SplittableRandom random) {
+            return values.get(pickIndex(random));
+        }
+    }
+}
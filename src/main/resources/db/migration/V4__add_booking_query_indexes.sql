@@ -0,0 +1,21 @@
+-- Indexes backing the date, venue, status and customer lookups in BookingRepository
+
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'idx_booking_wedding_date' AND object_id = OBJECT_ID('dbo.booking'))
+BEGIN
+    CREATE INDEX idx_booking_wedding_date ON dbo.booking (wedding_date);
+END
+
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'idx_booking_venue_date' AND object_id = OBJECT_ID('dbo.booking'))
+BEGIN
+    CREATE INDEX idx_booking_venue_date ON dbo.booking (venue, wedding_date);
+END
+
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'idx_booking_status_date' AND object_id = OBJECT_ID('dbo.booking'))
+BEGIN
+    CREATE INDEX idx_booking_status_date ON dbo.booking (booking_status, wedding_date);
+END
+
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'idx_booking_customer_email' AND object_id = OBJECT_ID('dbo.booking'))
+BEGIN
+    CREATE INDEX idx_booking_customer_email ON dbo.booking (customer_email);
+END
@@ -0,0 +1,10 @@
+-- Incrementally maintained booking totals (see BookingCounterService)
+-- Populated on first startup, or on demand with the rebuild-booking-counters command
+
+IF NOT EXISTS (SELECT * FROM sys.tables WHERE name = 'booking_counters')
+BEGIN
+    CREATE TABLE dbo.booking_counters (
+        counter_key VARCHAR(200) NOT NULL PRIMARY KEY,
+        counter_value BIGINT NOT NULL
+    );
+END
@@ -0,0 +1,39 @@
+-- Optimistic locking and atomic venue/date reservation for bookings
+-- reservation_key is "venue|date" for active bookings; cancelled bookings and later duplicates of
+-- an already held slot get a "released:" key so the unique constraint can be created on existing data
+
+IF COL_LENGTH('dbo.booking', 'version') IS NULL
+BEGIN
+    ALTER TABLE dbo.booking ADD version BIGINT NOT NULL CONSTRAINT df_booking_version DEFAULT 0;
+END
+
+IF COL_LENGTH('dbo.booking', 'reservation_key') IS NULL
+BEGIN
+    ALTER TABLE dbo.booking ADD reservation_key VARCHAR(150) NULL;
+END
+GO
+
+UPDATE dbo.booking
+SET reservation_key = 'released:' + CONVERT(VARCHAR(36), NEWID())
+WHERE reservation_key IS NULL AND booking_status = 'Cancelled';
+
+-- The earliest booking of each slot keeps it, unless a newer row already holds the key
+WITH ranked AS (
+    SELECT reservation_key,
+           venue + '|' + CONVERT(VARCHAR(10), wedding_date, 23) AS slot_key,
+           ROW_NUMBER() OVER (PARTITION BY venue, wedding_date ORDER BY id) AS slot_rank
+    FROM dbo.booking
+    WHERE reservation_key IS NULL
+)
+UPDATE ranked
+SET reservation_key = CASE
+        WHEN slot_rank = 1 AND NOT EXISTS (SELECT 1 FROM dbo.booking held WHERE held.reservation_key = ranked.slot_key)
+            THEN slot_key
+        ELSE 'released:' + CONVERT(VARCHAR(36), NEWID())
+    END;
+
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'uk_booking_reservation_key' AND object_id = OBJECT_ID('dbo.booking'))
+BEGIN
+    ALTER TABLE dbo.booking ALTER COLUMN reservation_key VARCHAR(150) NOT NULL;
+    ALTER TABLE dbo.booking ADD CONSTRAINT uk_booking_reservation_key UNIQUE (reservation_key);
+END
@@ -0,0 +1,85 @@
+-- Sequence-backed ids for bookings, menus, menu plans and accounts
+-- IDENTITY columns stop Hibernate from batching inserts. Each id column is converted to a plain BIGINT
+-- with its existing values kept, and its sequence is created, or restarted if it already exists, above
+-- the current maximum id. The sequence steps by 50 to match the entities' pooled allocationSize. The column default draws from the same
+-- sequence, so plain SQL inserts that leave out the id keep working.
+
+CREATE PROCEDURE dbo.v7_identity_to_sequence @table SYSNAME
+AS
+BEGIN
+    SET NOCOUNT ON;
+    DECLARE @sequence SYSNAME = @table + '_seq';
+    DECLARE @qualified NVARCHAR(300) = 'dbo.' + QUOTENAME(@table);
+    DECLARE @sql NVARCHAR(MAX);
+
+    IF OBJECT_ID(@qualified, 'U') IS NULL
+        RETURN;
+
+    IF COLUMNPROPERTY(OBJECT_ID(@qualified), 'id', 'IsIdentity') = 1
+    BEGIN
+        DECLARE @pk SYSNAME = (SELECT name FROM sys.key_constraints
+                               WHERE parent_object_id = OBJECT_ID(@qualified) AND type = 'PK');
+
+        SET @sql = 'ALTER TABLE ' + @qualified + ' ADD id_seq BIGINT NULL';
+        EXEC sp_executesql @sql;
+        SET @sql = 'UPDATE ' + @qualified + ' SET id_seq = id';
+        EXEC sp_executesql @sql;
+        IF @pk IS NOT NULL
+        BEGIN
+            SET @sql = 'ALTER TABLE ' + @qualified + ' DROP CONSTRAINT ' + QUOTENAME(@pk);
+            EXEC sp_executesql @sql;
+        END
+        SET @sql = 'ALTER TABLE ' + @qualified + ' DROP COLUMN id';
+        EXEC sp_executesql @sql;
+        SET @sql = @qualified + '.id_seq';
+        EXEC sp_rename @sql, 'id', 'COLUMN';
+        SET @sql = 'ALTER TABLE ' + @qualified + ' ALTER COLUMN id BIGINT NOT NULL';
+        EXEC sp_executesql @sql;
+        SET @sql = 'ALTER TABLE ' + @qualified + ' ADD CONSTRAINT ' + QUOTENAME('pk_' + @table) + ' PRIMARY KEY (id)';
+        EXEC sp_executesql @sql;
+    END
+
+    -- Start a full block above the highest id: the pooled optimizer hands out the 50 ids below each value
+    DECLARE @start BIGINT;
+    SET @sql = 'SELECT @start = ISNULL(MAX(id), 0) + 51 FROM ' + @qualified;
+    EXEC sp_executesql @sql, N'@start BIGINT OUTPUT', @start = @start OUTPUT;
+
+    IF OBJECT_ID('dbo.' + QUOTENAME(@sequence), 'SO') IS NULL
+    BEGIN
+        SET @sql = 'CREATE SEQUENCE dbo.' + QUOTENAME(@sequence) + ' AS BIGINT START WITH '
+            + CONVERT(VARCHAR(20), @start) + ' INCREMENT BY 50';
+        EXEC sp_executesql @sql;
+    END
+    ELSE IF (SELECT CONVERT(BIGINT, current_value) FROM sys.sequences
+             WHERE object_id = OBJECT_ID('dbo.' + QUOTENAME(@sequence))) < @start
+    BEGIN
+        -- A sequence Hibernate created on an earlier start (ddl-auto=update) begins at 1 and would hand
+        -- out ids that already exist; move it past them. One already above the rows is left alone
+        SET @sql = 'ALTER SEQUENCE dbo.' + QUOTENAME(@sequence) + ' RESTART WITH '
+            + CONVERT(VARCHAR(20), @start) + ' INCREMENT BY 50';
+        EXEC sp_executesql @sql;
+    END
+
+    IF NOT EXISTS (SELECT * FROM sys.default_constraints
+                   WHERE parent_object_id = OBJECT_ID(@qualified)
+                     AND parent_column_id = COLUMNPROPERTY(OBJECT_ID(@qualified), 'id', 'ColumnId'))
+    BEGIN
+        SET @sql = 'ALTER TABLE ' + @qualified + ' ADD CONSTRAINT ' + QUOTENAME('df_' + @table + '_id')
+            + ' DEFAULT (NEXT VALUE FOR dbo.' + QUOTENAME(@sequence) + ') FOR id';
+        EXEC sp_executesql @sql;
+    END
+END
+GO
+
+EXEC dbo.v7_identity_to_sequence 'booking';
+EXEC dbo.v7_identity_to_sequence 'menus';
+EXEC dbo.v7_identity_to_sequence 'menu_plans';
+EXEC dbo.v7_identity_to_sequence 'users';
+EXEC dbo.v7_identity_to_sequence 'hotel_owners';
+EXEC dbo.v7_identity_to_sequence 'event_coordinators';
+EXEC dbo.v7_identity_to_sequence 'system_administrators';
+EXEC dbo.v7_identity_to_sequence 'catering_managers';
+EXEC dbo.v7_identity_to_sequence 'front_desk_officers';
+GO
+
+DROP PROCEDURE dbo.v7_identity_to_sequence;
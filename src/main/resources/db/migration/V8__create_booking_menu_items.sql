@@ -0,0 +1,76 @@
+-- Booking menu items as rows instead of the comma-joined booking.selected_menu_items string
+-- One row per chosen menu with the servings per guest to prepare. Rows go with their booking or menu
+-- (ON DELETE CASCADE). Date-bound catering queries join through the booking's wedding date index
+-- rather than copying the date here. Existing selections are split on commas and matched to menus by
+-- name, the oldest menu winning for duplicate names. Names that no longer match a menu are counted and
+-- left behind. The legacy column itself is kept, unmapped, until the counts have been checked.
+-- Run this before the first start of a build that maps booking_menu_items: with ddl-auto=update
+-- Hibernate creates an empty table itself, and selections saved through the app from then on live
+-- only in the new rows. Bookings that already have rows are skipped, so a late run still copies the
+-- legacy selections of every booking not edited since.
+
+IF OBJECT_ID('dbo.booking_menu_items_seq', 'SO') IS NULL
+BEGIN
+    CREATE SEQUENCE dbo.booking_menu_items_seq AS BIGINT START WITH 1 INCREMENT BY 50;
+END
+GO
+
+IF OBJECT_ID('dbo.booking_menu_items', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.booking_menu_items (
+        id BIGINT NOT NULL CONSTRAINT df_booking_menu_items_id DEFAULT (NEXT VALUE FOR dbo.booking_menu_items_seq),
+        booking_id BIGINT NOT NULL,
+        menu_id BIGINT NOT NULL,
+        quantity INT NOT NULL CONSTRAINT df_booking_menu_items_quantity DEFAULT (1),
+        CONSTRAINT pk_booking_menu_items PRIMARY KEY (id),
+        CONSTRAINT fk_booking_menu_items_booking FOREIGN KEY (booking_id) REFERENCES dbo.booking (id) ON DELETE CASCADE,
+        CONSTRAINT fk_booking_menu_items_menu FOREIGN KEY (menu_id) REFERENCES dbo.menus (id) ON DELETE CASCADE,
+        CONSTRAINT ck_booking_menu_items_quantity CHECK (quantity >= 1)
+    );
+END
+GO
+
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'idx_booking_menu_items_booking'
+               AND object_id = OBJECT_ID('dbo.booking_menu_items'))
+BEGIN
+    CREATE INDEX idx_booking_menu_items_booking ON dbo.booking_menu_items (booking_id);
+END
+
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'idx_booking_menu_items_menu'
+               AND object_id = OBJECT_ID('dbo.booking_menu_items'))
+BEGIN
+    CREATE INDEX idx_booking_menu_items_menu ON dbo.booking_menu_items (menu_id, booking_id);
+END
+GO
+
+-- Copy the legacy selections of bookings without rows; dynamic SQL because the column is absent on
+-- fresh databases
+IF COL_LENGTH('dbo.booking', 'selected_menu_items') IS NOT NULL
+BEGIN
+    EXEC sp_executesql N'
+        WITH chosen AS (
+            SELECT DISTINCT b.id AS booking_id, LTRIM(RTRIM(s.value)) AS name
+            FROM dbo.booking b
+            CROSS APPLY STRING_SPLIT(b.selected_menu_items, '','') s
+            WHERE b.selected_menu_items IS NOT NULL AND LTRIM(RTRIM(s.value)) <> ''''
+              AND NOT EXISTS (SELECT 1 FROM dbo.booking_menu_items i WHERE i.booking_id = b.id)
+        ),
+        first_menu AS (
+            SELECT name, MIN(id) AS menu_id FROM dbo.menus GROUP BY name
+        )
+        INSERT INTO dbo.booking_menu_items (booking_id, menu_id, quantity)
+        SELECT c.booking_id, m.menu_id, 1
+        FROM chosen c
+        JOIN first_menu m ON m.name = c.name
+        ORDER BY c.booking_id, m.menu_id;
+
+        DECLARE @unmatched INT = (
+            SELECT COUNT(*)
+            FROM dbo.booking b
+            CROSS APPLY STRING_SPLIT(b.selected_menu_items, '','') s
+            WHERE b.selected_menu_items IS NOT NULL AND LTRIM(RTRIM(s.value)) <> ''''
+              AND NOT EXISTS (SELECT * FROM dbo.menus m WHERE m.name = LTRIM(RTRIM(s.value))));
+        PRINT ''booking_menu_items: '' + CONVERT(VARCHAR(20), @unmatched)
+            + '' selected menu names did not match a menu and were not copied'';';
+END
+GO
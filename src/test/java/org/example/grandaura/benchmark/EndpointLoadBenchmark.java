@@ -0,0 +1,160 @@
+package org.example.grandaura.benchmark;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator comparing platform and virtual-thread request handling
+ * Logs in once as the system administrator, then drives each endpoint with a fixed number of
+ * concurrent clients for a fixed time and prints throughput and latency percentiles.
+ * Dependency free, so it can be launched straight from source against a running instance:
+ *
+ *   java src/test/java/org/example/grandaura/benchmark/EndpointLoadBenchmark.java \
+ *        http://localhost:8080 200 30 [label]
+ *
+ * Run it once against the default profile and once against --spring.profiles.active=virtual-threads
+ * (see benchmark-virtual-threads.sh) and compare the tables.
+ */
+public class EndpointLoadBenchmark {
+
+    private static final String EMAIL = System.getProperty("benchmark.email", "admin@grandaura.com");
+    private static final String PASSWORD = System.getProperty("benchmark.password", "admin123");
+    private static final int WARMUP_SECONDS = 10;
+
+    private static final String[] ENDPOINTS = {
+        "/system-admin/dashboard",
+        "/system-admin/analytics",
+        "/api/bookings?size=25",
+        "/api/bookings/availability?guests=200",
+    };
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        String label = args.length > 3 ? args[3] : "run";
+
+        HttpClient http = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        try {
+            login(http, baseUrl);
+        } catch (Exception e) {
+            System.err.println("Cannot log in to " + baseUrl + ": " + e);
+            System.exit(1);
+        }
+
+        System.out.printf("%n%s: %d clients, %ds per endpoint%n", label, clients, seconds);
+        System.out.printf("%-42s %10s %9s %9s %9s %9s %7s%n", "endpoint", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors");
+        for (String endpoint : ENDPOINTS) {
+            URI uri = URI.create(baseUrl + endpoint);
+            drive(http, uri, clients, WARMUP_SECONDS);
+            Result result = drive(http, uri, clients, seconds);
+            System.out.printf("%-42s %10.1f %9.1f %9.1f %9.1f %9.1f %7d%n", endpoint,
+                    result.count() / (double) seconds,
+                    result.percentile(50), result.percentile(90), result.percentile(99), result.percentile(100),
+                    result.errors());
+        }
+    }
+
+    private static void login(HttpClient http, String baseUrl) throws Exception {
+        String form = "username=" + URLEncoder.encode(EMAIL, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+        HttpResponse<Void> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (location.contains("error")) {
+            throw new IllegalStateException("Login failed for " + EMAIL + ": redirected to " + location);
+        }
+    }
+
+    private static Result drive(HttpClient http, URI uri, int clients, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<long[]> latencies = new ArrayList<>();
+        int[] counts = new int[clients];
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(clients);
+        ExecutorService pool = Executors.newFixedThreadPool(clients, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int c = 0; c < clients; c++) {
+            long[] samples = new long[1 << 16];
+            latencies.add(samples);
+            int client = c;
+            pool.execute(() -> {
+                HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+                long[] own = samples;
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (counts[client] == own.length) {
+                            own = Arrays.copyOf(own, own.length * 2);
+                            synchronized (latencies) {
+                                latencies.set(client, own);
+                            }
+                        }
+                        own[counts[client]++] = System.nanoTime() - start;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        pool.shutdown();
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int c = 0; c < clients; c++) {
+            System.arraycopy(latencies.get(c), 0, all, offset, counts[c]);
+            offset += counts[c];
+        }
+        Arrays.sort(all);
+        return new Result(all, errors.get());
+    }
+
+    private record Result(long[] sortedNanos, long errors) {
+        int count() {
+            return sortedNanos.length;
+        }
+
+        double percentile(int percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
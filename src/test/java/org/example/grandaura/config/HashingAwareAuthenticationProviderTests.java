@@ -0,0 +1,123 @@
+package org.example.grandaura.config;
+
+import org.example.grandaura.service.BoundedPasswordEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Login against a saturated password hashing pool: one thread hashing, one task queued
+ */
+class HashingAwareAuthenticationProviderTests {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private BoundedPasswordEncoder encoder;
+    private UsernamePasswordAuthenticationFilter loginFilter;
+
+    @BeforeEach
+    void saturateEncoder() throws Exception {
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                if ("block".contentEquals(rawPassword)) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1);
+
+        HashingAwareAuthenticationProvider provider = new HashingAwareAuthenticationProvider(username -> {
+            if (!username.equals("guest@grandaura.com")) {
+                throw new UsernameNotFoundException(username);
+            }
+            return User.withUsername(username).password("secret").roles("USER").build();
+        });
+        provider.setPasswordEncoder(encoder);
+        loginFilter = new UsernamePasswordAuthenticationFilter(new ProviderManager(provider));
+        loginFilter.setAuthenticationFailureHandler(new CustomAuthenticationFailureHandler());
+        loginFilter.afterPropertiesSet();
+
+        // Unknown-user protection hashes once up front; do it before the pool is full
+        assertEquals(302, login("nobody@grandaura.com", "x").getStatus());
+
+        // One at a time: a second task submitted before the first is picked up would find the queue full
+        callers.submit(() -> encoder.matches("block", "block"));
+        awaitEncoder(1, 0);
+        callers.submit(() -> encoder.matches("block", "block"));
+        awaitEncoder(1, 1);
+    }
+
+    @AfterEach
+    void releaseEncoder() throws Exception {
+        release.countDown();
+        callers.shutdown();
+        callers.awaitTermination(5, TimeUnit.SECONDS);
+        encoder.destroy();
+    }
+
+    @Test
+    void passwordCheckAnswersServiceUnavailable() throws Exception {
+        assertBusy(login("guest@grandaura.com", "secret"));
+    }
+
+    @Test
+    void unknownUserTimingProtectionAnswersServiceUnavailable() throws Exception {
+        assertBusy(login("nobody@grandaura.com", "secret"));
+    }
+
+    private MockHttpServletResponse login(String username, String password) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setServletPath("/login");
+        request.addParameter("username", username);
+        request.addParameter("password", password);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        loginFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private void awaitEncoder(int active, int queued) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            Map<String, Object> stats = encoder.getStatistics();
+            if ((int) stats.get("active") == active && (int) stats.get("queued") == queued) {
+                return;
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "encoder did not saturate");
+            Thread.sleep(10);
+        }
+    }
+
+    private static void assertBusy(MockHttpServletResponse response) {
+        assertEquals(503, response.getStatus());
+        assertEquals(String.valueOf(BoundedPasswordEncoder.RETRY_AFTER_SECONDS), response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.grandaura.service;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.example.grandaura.dto.BookingExportFilter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Streaming export tests against a file-backed database holding a million bookings
+ * The table lives on disk so the heap only holds what the export itself retains
+ */
+class BookingExportServiceTests {
+
+    private static final int ROWS = 1_000_000;
+    private static final long MAX_RETAINED_BYTES = 32L * 1024 * 1024;
+
+    private static Path databaseDir;
+    private static BookingExportService exportService;
+
+    @BeforeAll
+    static void createBookings() throws Exception {
+        databaseDir = Files.createTempDirectory("booking-export");
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:file:" + databaseDir.resolve("bookings") + ";CACHE_SIZE=8192", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE booking (id BIGINT PRIMARY KEY, customer_name VARCHAR(100), " +
+            "customer_email VARCHAR(160), venue VARCHAR(100), wedding_date DATE, guest_count INT, " +
+            "booking_status VARCHAR(50), special_requests VARCHAR(500))");
+        jdbc.execute("INSERT INTO booking SELECT X, CONCAT('Guest ', X), CONCAT('guest', X, '@example.com'), " +
+            "CASE MOD(X, 3) WHEN 0 THEN 'Grand Ballroom - 250 to 280 pax' " +
+            "WHEN 1 THEN 'Jubilee Ballroom - 150 to 200 pax' ELSE 'Chequerboard - Up to 1000 pax' END, " +
+            "DATEADD('DAY', X / 1000, DATE '2026-01-01'), 100 + MOD(X, 150), " +
+            "CASE WHEN MOD(X, 2) = 0 THEN 'Pending' ELSE 'Completed' END, " +
+            "CASE WHEN MOD(X, 10) = 0 THEN CONCAT('Vegan, \"no nuts\"', CHAR(10), 'thanks') END " +
+            "FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        jdbc.execute("CREATE INDEX idx_booking_wedding_date ON booking (wedding_date, id)");
+        exportService = new BookingExportService(dataSource);
+    }
+
+    @AfterAll
+    static void dropDatabase() throws Exception {
+        FileSystemUtils.deleteRecursively(databaseDir);
+    }
+
+    @Test
+    void millionRowExportKeepsRetainedHeapFlat() throws Exception {
+        HeapSamplingWriter writer = new HeapSamplingWriter();
+
+        long rows = exportService.writeCsv(new BookingExportFilter(), writer);
+
+        assertEquals(ROWS, rows);
+        assertTrue(writer.chars > 64L * 1024 * 1024, "export should produce well over 64MB of CSV");
+        long growth = writer.peakRetained - writer.baseline;
+        assertTrue(growth < MAX_RETAINED_BYTES,
+            "retained heap grew by " + growth / (1024 * 1024) + "MB while streaming " + rows + " rows");
+    }
+
+    @Test
+    void filtersAndQuotesRowsPerRfc4180() throws Exception {
+        StringWriter writer = new StringWriter();
+        BookingExportFilter filter = new BookingExportFilter(
+            LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 1), "Grand Ballroom - 250 to 280 pax", "Pending");
+
+        long rows = exportService.writeCsv(filter, writer);
+
+        // Ids 1..999 fall on 2026-01-01; every sixth one is both Grand Ballroom and Pending
+        assertEquals(166, rows);
+        String[] lines = writer.toString().split("\r\n");
+        assertEquals("ID,Customer Name,Email,Venue,Wedding Date,Guest Count,Status,Special Requests", lines[0]);
+        assertEquals("6,Guest 6,guest6@example.com,Grand Ballroom - 250 to 280 pax,2026-01-01,106,Pending,", lines[1]);
+        assertTrue(writer.toString().contains(
+            "30,Guest 30,guest30@example.com,Grand Ballroom - 250 to 280 pax,2026-01-01,130,Pending,\"Vegan, \"\"no nuts\"\"\nthanks\"\r\n"));
+    }
+
+    @Test
+    void xlsxExportAddsVenueAndMonthlySheets() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookingExportFilter filter = new BookingExportFilter(
+            LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2), null, "Pending");
+
+        long rows = exportService.writeXlsx(filter, out);
+
+        // Ids 2..1998 fall on the first two days; every second one is Pending
+        assertEquals(999, rows);
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(3, workbook.getNumberOfSheets());
+            Sheet bookings = workbook.getSheet("Bookings");
+            assertEquals(999, bookings.getLastRowNum());
+            assertEquals("Guest 2", bookings.getRow(1).getCell(1).getStringCellValue());
+            assertEquals("Vegan, \"no nuts\"\nthanks", bookings.getRow(5).getCell(7).getStringCellValue());
+
+            Sheet venues = workbook.getSheet("Venue Utilization");
+            assertEquals(3, venues.getLastRowNum());
+            long venueTotal = 0;
+            for (int i = 1; i <= venues.getLastRowNum(); i++) {
+                venueTotal += (long) venues.getRow(i).getCell(1).getNumericCellValue();
+            }
+            assertEquals(rows, venueTotal);
+
+            Sheet months = workbook.getSheet("Monthly Stats");
+            assertEquals(1, months.getLastRowNum());
+            assertEquals("January 2026", months.getRow(1).getCell(0).getStringCellValue());
+            assertEquals(999, (long) months.getRow(1).getCell(1).getNumericCellValue());
+        }
+    }
+
+    /**
+     * Discards output but forces a collection every few megabytes to sample the live heap
+     */
+    private static class HeapSamplingWriter extends Writer {
+        private static final long SAMPLE_EVERY = 8L * 1024 * 1024;
+
+        final long baseline = retainedHeap();
+        long peakRetained = baseline;
+        long chars;
+        private long nextSample = SAMPLE_EVERY;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            count(length);
+        }
+
+        @Override
+        public void write(String value, int offset, int length) {
+            count(length);
+        }
+
+        @Override
+        public void write(int c) {
+            count(1);
+        }
+
+        private void count(int length) {
+            chars += length;
+            if (chars >= nextSample) {
+                nextSample += SAMPLE_EVERY;
+                peakRetained = Math.max(peakRetained, retainedHeap());
+            }
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+
+        private static long retainedHeap() {
+            Runtime runtime = Runtime.getRuntime();
+            System.gc();
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.grandaura.service;
+
+import org.example.grandaura.entity.Booking;
+import org.example.grandaura.repository.BookingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Stress test for the venue/date reservation path against an in-memory database
+ * Each thread commits its own transaction, so the unique reservation key is the only arbiter
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({BookingServiceImpl.class, BookingCounterService.class, BookingChangeListener.class, VenueAvailabilityService.class,
+        MonthlyReportService.class, CateringForecastService.class, MenuCatalogService.class,
+        BookingDetailService.class, MenuSearchService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingReservationConcurrencyTests {
+
+    private static final int THREADS = 32;
+    private static final String VENUE = "Grand Ballroom - 250 to 280 pax";
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @AfterEach
+    void cleanUp() {
+        bookingRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentCreatesForSameSlotHaveExactlyOneWinner() throws Exception {
+        LocalDate weddingDate = LocalDate.now().plusMonths(6);
+        AtomicInteger winners = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(index -> {
+            try {
+                bookingService.saveBooking(newBooking(index, VENUE, weddingDate));
+                winners.incrementAndGet();
+            } catch (VenueUnavailableException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertEquals(1, winners.get());
+        assertEquals(THREADS - 1, rejected.get());
+        assertEquals(1, bookingRepository.findByVenueOrderByWeddingDateAsc(VENUE).size());
+    }
+
+    @Test
+    void concurrentCreatesForDifferentDatesAllSucceed() throws Exception {
+        LocalDate firstDate = LocalDate.now().plusMonths(6);
+        AtomicInteger winners = new AtomicInteger();
+
+        runConcurrently(index -> {
+            bookingService.saveBooking(newBooking(index, VENUE, firstDate.plusDays(index)));
+            winners.incrementAndGet();
+        });
+
+        assertEquals(THREADS, winners.get());
+        assertEquals(THREADS, bookingRepository.count());
+    }
+
+    @Test
+    void cancelledBookingReleasesItsSlot() {
+        LocalDate weddingDate = LocalDate.now().plusMonths(6);
+        Booking first = bookingService.saveBooking(newBooking(0, VENUE, weddingDate));
+
+        assertThrows(VenueUnavailableException.class,
+                () -> bookingService.saveBooking(newBooking(1, VENUE, weddingDate)));
+
+        first.setBookingStatus(Booking.STATUS_CANCELLED);
+        bookingService.saveBooking(first);
+        bookingService.saveBooking(newBooking(2, VENUE, weddingDate));
+
+        assertEquals(2, bookingRepository.count());
+    }
+
+    @Test
+    void staleEditIsRejected() {
+        Booking saved = bookingService.saveBooking(newBooking(0, VENUE, LocalDate.now().plusMonths(6)));
+        Booking firstCopy = bookingRepository.findById(saved.getId()).orElseThrow();
+        Booking secondCopy = bookingRepository.findById(saved.getId()).orElseThrow();
+
+        firstCopy.setGuestCount(260);
+        bookingService.saveBooking(firstCopy);
+
+        secondCopy.setGuestCount(270);
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> bookingService.saveBooking(secondCopy));
+    }
+
+    private void runConcurrently(IndexedTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Booking newBooking(int index, String venue, LocalDate weddingDate) {
+        Booking booking = new Booking();
+        booking.setCustomerName("Guest " + index);
+        booking.setCustomerEmail("guest" + index + "@example.com");
+        booking.setGuestCount(250);
+        booking.setVenue(venue);
+        booking.setWeddingDate(weddingDate);
+        return booking;
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.grandaura.service;
+
+import org.example.grandaura.entity.Menu;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Menu search index tests: ranking, prefixes, typos and incremental re-indexing
+ */
+class MenuSearchServiceTests {
+
+    private MenuSearchService searchService;
+    private List<Menu> menus;
+
+    @BeforeEach
+    void indexMenus() {
+        menus = new ArrayList<>(List.of(
+            menu(1L, "Tandoori Chicken Tikka", "Chicken marinated in yoghurt and spices", "Halal", "Dairy"),
+            menu(2L, "Grilled Salmon with Lemon Herb Sauce", "Atlantic salmon fillet", "Gluten-Free", "Fish"),
+            menu(3L, "Paneer Butter Masala", "Cottage cheese in a tomato and chicken-free gravy", "Vegetarian", "Dairy"),
+            menu(4L, "Crème Brûlée", "Vanilla custard with caramelised sugar", "Vegetarian", "Dairy, Eggs")));
+        searchService = new MenuSearchService();
+        assertEquals(4, searchService.index(menus));
+    }
+
+    @Test
+    void ranksNameMatchesAboveDescriptionMatches() {
+        assertEquals(List.of(1L, 3L), ids(searchService.search("chicken")));
+    }
+
+    @Test
+    void requiresEveryWordAndMatchesPrefixes() {
+        assertEquals(List.of(1L), ids(searchService.search("chick tik")));
+        assertEquals(List.of(3L), ids(searchService.search("veg pan")));
+        assertEquals(List.of(2L), ids(searchService.search("gluten-free")));
+    }
+
+    @Test
+    void toleratesTyposAndAccents() {
+        assertEquals(List.of(2L), ids(searchService.search("salmno")));
+        assertEquals(List.of(1L), ids(searchService.search("tandori")));
+        assertEquals(List.of(4L), ids(searchService.search("creme brulee")));
+        assertEquals(List.of(1L, 3L), ids(searchService.search("chik")));
+        assertTrue(searchService.search("xyz").isEmpty());
+    }
+
+    @Test
+    void reindexesOnlyChangedMenus() {
+        menus.set(1, menu(2L, "Seared Sea Bass", "Line-caught bass", "Gluten-Free", "Fish"));
+        menus.remove(3);
+
+        assertEquals(2, searchService.index(menus));
+        assertTrue(searchService.search("salmon").isEmpty());
+        assertTrue(searchService.search("brulee").isEmpty());
+        assertEquals(List.of(2L), ids(searchService.search("sea bass")));
+        assertEquals(3, searchService.getIndexedMenuCount());
+        assertEquals(0, searchService.index(menus));
+    }
+
+    @Test
+    void autocompleteIsLimited() {
+        for (long id = 10; id < 30; id++) {
+            menus.add(menu(id, "Mango Lassi " + id, null, "Vegetarian", null));
+        }
+        searchService.index(menus);
+
+        assertEquals(MenuSearchService.AUTOCOMPLETE_LIMIT, searchService.autocomplete("mang").size());
+        assertEquals("Mango Lassi 10", searchService.autocomplete("mango l").get(0).name());
+    }
+
+    private static Menu menu(Long id, String name, String description, String dietaryInfo, String allergens) {
+        Menu menu = new Menu();
+        menu.setId(id);
+        menu.setName(name);
+        menu.setDescription(description);
+        menu.setDietaryInfo(dietaryInfo);
+        menu.setAllergens(allergens);
+        return menu;
+    }
+
+    private static List<Long> ids(List<Menu> found) {
+        return found.stream().map(Menu::getId).toList();
+    }
+}